@@ -0,0 +1,51 @@
+package fr.tartur.games.runningegg.benchmarks;
+
+import fr.tartur.games.runningegg.game.ArrowRotator;
+import fr.tartur.games.runningegg.game.SpinSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of a whole arrow spinning animation played by an {@link ArrowRotator}, from its first tick until it
+ * stops. The rotations are handed to a renderer which only consumes them, so that the cost of the schedule itself is
+ * measured. The animation does not depend on the amount of players, only on the position the arrow stops at.
+ */
+@State(Scope.Benchmark)
+public class ArrowRotatorBenchmark {
+
+    @Param({"0", "3", "7"})
+    private int target;
+
+    private SpinSchedule schedule;
+
+    /**
+     * Computes the schedule of the animation with the default easing.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final int[] easing = SpinSchedule.DEFAULT_EASING.stream().mapToInt(Integer::intValue).toArray();
+        this.schedule = SpinSchedule.compute(easing, this.target, true);
+    }
+
+    /**
+     * Runs every tick of the animation.
+     *
+     * @param blackhole The sink of the rotations.
+     */
+    @Benchmark
+    public void spin(Blackhole blackhole) {
+        final boolean[] stopped = new boolean[1];
+        final ArrowRotator rotator = new ArrowRotator(() -> stopped[0] = true,
+                (rotation, sound) -> blackhole.consume(rotation), this.schedule);
+
+        while (!stopped[0]) {
+            rotator.run();
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package fr.tartur.games.runningegg.benchmarks;
+
+import fr.tartur.games.runningegg.game.ArenaBorder;
+import fr.tartur.games.runningegg.game.BorderTracker;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.world.WorldMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark of the border check run by the {@code DelayedEventListener} on every move of a player, for every tracked
+ * pray of an arena. Players either stand on the border, which is checked every time, or inside it, where the check is
+ * skipped until they could have reached it.
+ */
+@State(Scope.Benchmark)
+public class BorderTrackerBenchmark {
+
+    private static final double BORDER_SIZE = 50d;
+
+    @Param({"2", "10", "50", "100", "500"})
+    private int players;
+
+    @Param({"edge", "inside"})
+    private String position;
+
+    private BorderTracker tracker;
+    private List<Player> tracked;
+    private List<Location> destinations;
+
+    /**
+     * Mocks a server, and tracks the requested amount of players in a single arena border.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ServerMock server = MockBukkit.mock();
+        final WorldMock world = server.addSimpleWorld("benchmark");
+        final Location center = new Location(world, 0d, 64d, 0d);
+        final ArenaBorder border = new ArenaBorder(center, BORDER_SIZE);
+        final double offset = this.position.equals("edge") ? BORDER_SIZE / 2d : 0d;
+
+        this.tracker = new BorderTracker(BorderTracker.DEFAULT_MAX_SPEED);
+        this.tracked = new ArrayList<>(this.players);
+        this.destinations = new ArrayList<>(this.players);
+
+        for (int i = 0; i < this.players; ++i) {
+            final Player player = server.addPlayer();
+
+            this.tracker.track(player, border);
+            this.tracked.add(player);
+            this.destinations.add(center.clone().add(offset, 0d, 0d));
+        }
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Checks one move of every tracked player.
+     *
+     * @param blackhole The sink of the results.
+     */
+    @Benchmark
+    public void hitsBorder(Blackhole blackhole) {
+        for (int i = 0; i < this.players; ++i) {
+            blackhole.consume(this.tracker.hitsBorder(this.tracked.get(i), this.destinations.get(i)));
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package fr.tartur.games.runningegg.benchmarks;
+
+import fr.tartur.games.runningegg.config.MessageCatalog;
+import fr.tartur.games.runningegg.game.Game;
+import fr.tartur.games.runningegg.game.GamePlayers;
+import fr.tartur.games.runningegg.game.GameRole;
+import fr.tartur.games.runningegg.game.GameSettings;
+import fr.tartur.games.runningegg.game.SpinRender;
+import fr.tartur.games.runningegg.game.SpinSchedule;
+import fr.tartur.games.runningegg.game.TeleportService;
+import fr.tartur.games.runningegg.profiler.HandlerProfiler;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.world.WorldMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Benchmark of the {@link GamePlayers} lookups run by the game event handlers: iterating the playing players or the
+ * prays, and checking the {@link GameRole} of every player.
+ */
+@State(Scope.Benchmark)
+public class GamePlayersBenchmark {
+
+    @Param({"2", "10", "50", "100", "500"})
+    private int players;
+
+    private GamePlayers gamePlayers;
+    private List<Player> all;
+
+    /**
+     * Mocks a server, and builds the players of a game whose hunter has been picked.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ServerMock server = MockBukkit.mock();
+        final WorldMock world = server.addSimpleWorld("benchmark");
+        final Location spin = new Location(world, 0d, 64d, 0d);
+        final List<UUID> ids = new ArrayList<>(this.players);
+
+        this.all = new ArrayList<>(this.players);
+
+        for (int i = 0; i < this.players; ++i) {
+            final Player player = server.addPlayer();
+
+            ids.add(player.getUniqueId());
+            this.all.add(player);
+        }
+
+        final GameSettings settings = new GameSettings(Collections.nCopies(this.players, spin), spin, 2, 50d,
+                SpinSchedule.DEFAULT_EASING, false, SpinRender.FRAME);
+
+        final TeleportService teleports = new TeleportService(MockBukkit.createMockPlugin(), new HandlerProfiler());
+
+        this.gamePlayers = new GamePlayers(new Game.Data(ids, settings), teleports,
+                MessageCatalog.load(bundledConfig()));
+        this.gamePlayers.defineRandomHunter();
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Iterates every playing player.
+     *
+     * @param blackhole The sink of the results.
+     */
+    @Benchmark
+    public void getPlaying(Blackhole blackhole) {
+        for (final Player player : this.gamePlayers.getPlaying()) {
+            blackhole.consume(player);
+        }
+    }
+
+    /**
+     * Iterates every pray.
+     *
+     * @param blackhole The sink of the results.
+     */
+    @Benchmark
+    public void getPrays(Blackhole blackhole) {
+        for (final Player player : this.gamePlayers.getPrays()) {
+            blackhole.consume(player);
+        }
+    }
+
+    /**
+     * Checks whether every player is a pray.
+     *
+     * @param blackhole The sink of the results.
+     */
+    @Benchmark
+    public void hasRole(Blackhole blackhole) {
+        for (final Player player : this.all) {
+            blackhole.consume(this.gamePlayers.hasRole(player, GameRole.PRAY));
+        }
+    }
+
+    /**
+     * Loads the {@code config.yml} file bundled with the plugin, which holds the default messages.
+     *
+     * @return The said configuration.
+     */
+    private static YamlConfiguration bundledConfig() {
+        try (final Reader reader = new InputStreamReader(Objects.requireNonNull(
+                GamePlayersBenchmark.class.getResourceAsStream("/config.yml")), StandardCharsets.UTF_8)) {
+            return YamlConfiguration.loadConfiguration(reader);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package fr.tartur.games.runningegg.benchmarks;
+
+import fr.tartur.games.runningegg.Core;
+import fr.tartur.games.runningegg.game.GameSettings;
+import fr.tartur.games.runningegg.game.SpinSchedule;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.world.WorldMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Optional;
+
+/**
+ * Benchmark of {@link GameSettings#loadConfiguration} on an arena section holding one spawn point per player, parsed
+ * from its YAML form like when the plugin enables.
+ */
+@State(Scope.Benchmark)
+public class GameSettingsBenchmark {
+
+    @Param({"2", "10", "50", "100", "500"})
+    private int players;
+
+    private Core core;
+    private String yaml;
+
+    /**
+     * Mocks a server, loads the plugin and writes an arena section with the requested amount of spawn points.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ServerMock server = MockBukkit.mock();
+        final WorldMock world = server.addSimpleWorld("benchmark");
+        final YamlConfiguration config = new YamlConfiguration();
+
+        this.core = MockBukkit.load(Core.class);
+        config.set("spawn_points.spin", new Location(world, 0d, 64d, 0d));
+
+        for (int i = 0; i < this.players; ++i) {
+            config.set("spawn_points.p" + i, new Location(world, i, 64d, -i));
+        }
+
+        this.yaml = config.saveToString();
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Parses the arena section and loads its settings.
+     *
+     * @return The loaded settings.
+     * @throws Exception If the section could not be parsed.
+     */
+    @Benchmark
+    public Optional<GameSettings> loadConfiguration() throws Exception {
+        final YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(this.yaml);
+
+        return GameSettings.loadConfiguration(this.core, "benchmark", config, 2, GameSettings.DEFAULT_BORDER_SIZE,
+                SpinSchedule.DEFAULT_EASING, true, "frame");
+    }
+
+}
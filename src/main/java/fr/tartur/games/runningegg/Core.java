@@ -2,22 +2,47 @@ package fr.tartur.games.runningegg;
 
 import com.mojang.brigadier.arguments.StringArgumentType;
 import fr.tartur.games.runningegg.commands.RunningEggCommands;
+import fr.tartur.games.runningegg.config.ConfigStore;
+import fr.tartur.games.runningegg.config.MessageCatalog;
+import fr.tartur.games.runningegg.game.Arena;
+import fr.tartur.games.runningegg.game.ArenaRegistry;
+import fr.tartur.games.runningegg.game.BorderTracker;
 import fr.tartur.games.runningegg.game.GameManager;
 import fr.tartur.games.runningegg.game.GameSettings;
-import fr.tartur.games.runningegg.game.WaitingRoom;
+import fr.tartur.games.runningegg.game.ProjectileTracker;
+import fr.tartur.games.runningegg.game.TeleportService;
 import fr.tartur.games.runningegg.listeners.DelayedEventListener;
+import fr.tartur.games.runningegg.listeners.GameDispatcher;
 import fr.tartur.games.runningegg.listeners.PlayerInvariantListener;
 import fr.tartur.games.runningegg.listeners.PlayerStreamListener;
+import fr.tartur.games.runningegg.metrics.PrometheusExporter;
+import fr.tartur.games.runningegg.metrics.RunningEggStats;
+import fr.tartur.games.runningegg.profiler.HandlerProfiler;
 import io.papermc.paper.command.brigadier.Commands;
 import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
 import org.bukkit.entity.Player;
-import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.Optional;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
 
 public final class Core extends JavaPlugin {
 
+    private static final String STATS_NAME = "fr.tartur.runningegg:type=Stats";
+
+    private ConfigStore configStore;
+    private MessageCatalog messages;
+    private ArenaRegistry arenas;
+    private HandlerProfiler profiler;
+    private PrometheusExporter exporter;
+    private ObjectName statsName;
+
     /**
      * Callback triggered when the plugin needs to load its resources.
      */
@@ -25,11 +50,18 @@ public final class Core extends JavaPlugin {
     public void onEnable() {
         super.saveDefaultConfig();
 
-        final PluginManager manager = super.getServer().getPluginManager();
-        final Optional<GameSettings> settings = GameSettings.loadConfiguration(this);
+        this.messages = MessageCatalog.load(super.getConfig());
+
+        this.profiler = new HandlerProfiler();
+
+        this.configStore = new ConfigStore(this, super.getConfig().getLong("config_flush_delay",
+                ConfigStore.DEFAULT_FLUSH_DELAY), this.profiler);
+
+        GameSettings.migrateLegacySpawnPoints(this, this.configStore);
+        final Map<String, GameSettings> settings = GameSettings.loadArenas(this);
         
         super.getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS, event -> {
-            final RunningEggCommands commands = new RunningEggCommands(this);
+            final RunningEggCommands commands = new RunningEggCommands(this.configStore, this.profiler);
             
             final var spawnLabel = Commands.argument("spawn_label", StringArgumentType.word());
             
@@ -37,26 +69,96 @@ public final class Core extends JavaPlugin {
                     .then(Commands.literal("spawn")
                             .then(Commands.literal("set")
                                     .requires(stack -> stack.getSender() instanceof Player)
-                                    .then(spawnLabel.executes(commands::setSpawn)))
+                                    .then(Commands.argument("arena", StringArgumentType.word())
+                                            .then(spawnLabel.executes(commands::setSpawn))))
                             .then(Commands.literal("delete")
-                                    .then(spawnLabel.executes(commands::delSpawn)))
+                                    .then(Commands.argument("arena", StringArgumentType.word())
+                                            .then(spawnLabel.executes(commands::delSpawn))))
                             .then(Commands.literal("teleport")
                                     .requires(stack -> stack.getSender() instanceof Player)
-                                    .then(spawnLabel.executes(commands::teleportToSpawn)))
+                                    .then(Commands.argument("arena", StringArgumentType.word())
+                                            .then(spawnLabel.executes(commands::teleportToSpawn))))
                     )
+                    .then(Commands.literal("profile")
+                            .requires(stack -> stack.getSender().hasPermission("runningegg.profile"))
+                            .executes(commands::showProfile)
+                            .then(Commands.literal("reset")
+                                    .executes(commands::resetProfile)))
                     .build());
         });
 
         if (settings.isEmpty()) {
-            getLogger().warning("Could not load game settings written in config.yml.");
+            getLogger().warning("Could not load any arena written in config.yml.");
         } else {
-            final WaitingRoom waitingRoom = new WaitingRoom(this, settings.get());
-            final GameManager gameManager = new GameManager(this, waitingRoom);
+            final List<Arena> arenas = new ArrayList<>();
+            settings.forEach((name, arenaSettings) -> arenas.add(new Arena(this, name, arenaSettings)));
+
+            final BorderTracker tracker = new BorderTracker(super.getConfig().getDouble("max_player_speed",
+                    BorderTracker.DEFAULT_MAX_SPEED));
+            this.arenas = new ArenaRegistry(arenas);
 
-            manager.registerEvents(new DelayedEventListener(this), this);
-            manager.registerEvents(new PlayerInvariantListener(), this);
-            manager.registerEvents(gameManager, this);
-            manager.registerEvents(new PlayerStreamListener(gameManager), this);
+            final TeleportService teleports = new TeleportService(this, this.profiler);
+            final ProjectileTracker projectiles = new ProjectileTracker();
+            final GameManager gameManager = new GameManager(this, this.arenas, tracker, teleports);
+
+            arenas.forEach(arena -> arena.getWheel().start());
+            this.profiler.register(this, new DelayedEventListener(tracker, projectiles, gameManager),
+                    HandlerProfiler.GLOBAL);
+            this.profiler.register(this, new PlayerInvariantListener(), HandlerProfiler.GLOBAL);
+            this.profiler.register(this, gameManager, HandlerProfiler.GLOBAL);
+            this.profiler.register(this, new GameDispatcher(gameManager, this.profiler), HandlerProfiler.GLOBAL);
+            this.profiler.register(this, new PlayerStreamListener(gameManager), HandlerProfiler.GLOBAL);
+
+            if (super.getConfig().getBoolean("metrics.enabled", true)) {
+                this.startMetrics(new RunningEggStats(this.arenas, tracker, projectiles, teleports, this.configStore));
+            }
+        }
+    }
+
+    /**
+     * Exposes the provided {@link RunningEggStats} as a JMX MBean, and starts writing them to the Prometheus metrics
+     * file written in the plugin's {@code config.yml} file.
+     *
+     * @param stats The said stats.
+     */
+    private void startMetrics(RunningEggStats stats) {
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(STATS_NAME);
+
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+
+            server.registerMBean(stats, name);
+            this.statsName = name;
+        } catch (JMException e) {
+            getLogger().log(Level.WARNING, "Could not register the RunningEgg MBean.", e);
+        }
+
+        this.exporter = new PrometheusExporter(this, stats, this.arenas,
+                super.getDataFolder().toPath().resolve(super.getConfig().getString("metrics.file", "metrics.prom")),
+                super.getConfig().getLong("metrics.interval", PrometheusExporter.DEFAULT_INTERVAL), this.profiler);
+        this.exporter.start();
+    }
+
+    /**
+     * Stops writing the Prometheus metrics file and removes the JMX MBean, if they were started.
+     */
+    private void stopMetrics() {
+        if (this.exporter != null) {
+            this.exporter.stop();
+            this.exporter = null;
+        }
+
+        if (this.statsName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.statsName);
+            } catch (JMException e) {
+                getLogger().log(Level.WARNING, "Could not unregister the RunningEgg MBean.", e);
+            }
+
+            this.statsName = null;
         }
     }
 
@@ -65,7 +167,44 @@ public final class Core extends JavaPlugin {
      */
     @Override
     public void onDisable() {
+        this.stopMetrics();
+
+        if (this.arenas != null) {
+            this.arenas.getArenas().forEach(arena -> arena.getWheel().stop());
+        }
+
+        if (this.configStore != null) {
+            this.configStore.flush();
+        }
+
         getLogger().info("Goodbye, my friend! See you very soon! :)");
     }
 
+    /**
+     * Gets the {@link ArenaRegistry} holding every loaded {@link Arena}.
+     *
+     * @return The said registry, or {@code null} if no arena could be loaded.
+     */
+    public ArenaRegistry getArenas() {
+        return arenas;
+    }
+
+    /**
+     * Gets the {@link HandlerProfiler} measuring every event handler and scheduled task of the plugin.
+     *
+     * @return The said profiler.
+     */
+    public HandlerProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the {@link MessageCatalog} holding every message shown to the players.
+     *
+     * @return The said catalog.
+     */
+    public MessageCatalog getMessages() {
+        return messages;
+    }
+
 }
@@ -1,13 +1,13 @@
 package fr.tartur.games.runningegg.api.events;
 
+import fr.tartur.games.runningegg.game.Arena;
 import fr.tartur.games.runningegg.game.Game;
-import fr.tartur.games.runningegg.game.GameSettings;
-import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Event triggered on a {@link Game} start.
@@ -16,17 +16,19 @@ public class GameStartEvent extends Event {
 
     private static final HandlerList HANDLER_LIST = new HandlerList();
 
+    private final Arena arena;
     private final Game.Data gameData;
 
     /**
-     * Class constructor, which needs a {@code List<Player>} and a {@link GameSettings} instance to load a new
-     * {@link Game} instance.
+     * Class constructor, which needs the {@link Arena} in which the game starts and a {@code List<UUID>} of players to
+     * load a new {@link Game} instance.
      *
+     * @param arena The arena of the game.
      * @param players The list of game players.
-     * @param settings The game settings.
      */
-    public GameStartEvent(List<Player> players, GameSettings settings) {
-        this.gameData = new Game.Data(players, settings);
+    public GameStartEvent(Arena arena, List<UUID> players) {
+        this.arena = arena;
+        this.gameData = new Game.Data(players, arena.getSettings());
     }
 
     /**
@@ -48,6 +50,15 @@ public class GameStartEvent extends Event {
         return HANDLER_LIST;
     }
 
+    /**
+     * The {@link Arena} in which the {@link Game} starts.
+     *
+     * @return The said arena.
+     */
+    public Arena getArena() {
+        return arena;
+    }
+
     /**
      * The {@link Game.Data} instance associated to the starting {@link Game}.
      *
@@ -2,58 +2,100 @@ package fr.tartur.games.runningegg.commands;
 
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.context.CommandContext;
-import fr.tartur.games.runningegg.Core;
+import fr.tartur.games.runningegg.config.ConfigStore;
+import fr.tartur.games.runningegg.profiler.HandlerProfiler;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 
+import java.util.List;
+
 /**
  * Class which contains all (sub)command executions of the root {@code /runningegg} command.
  */
 public class RunningEggCommands {
 
-    private final Core core;
-    private final FileConfiguration config;
+    private final ConfigStore config;
+    private final HandlerProfiler profiler;
 
     /**
-     * Class constructor, which needs a {@link Core} instance to save (or remove) positions to (or from) the plugin's
-     * {@code config.yml} file.
+     * Class constructor, which needs a {@link ConfigStore} instance to save (or remove) positions to (or from) the
+     * plugin's {@code config.yml} file, and the {@link HandlerProfiler} whose measures are shown.
      *
-     * @param core The main plugin instance.
+     * @param config The plugin's configuration store.
+     * @param profiler The plugin's handler profiler.
      */
-    public RunningEggCommands(Core core) {
-        this.core = core;
-        this.config = core.getConfig();
+    public RunningEggCommands(ConfigStore config, HandlerProfiler profiler) {
+        this.config = config;
+        this.profiler = profiler;
+    }
+
+    /**
+     * {@code /runningegg profile} command executor, which shows the call count, the p50 & p99 durations and the time
+     * spent per tick of every measured event handler and scheduled task, grouped by arena.
+     *
+     * @param context The command context.
+     * @return {@link Command#SINGLE_SUCCESS} every time the command was successfully executed.
+     */
+    public int showProfile(CommandContext<CommandSourceStack> context) {
+        final CommandSender sender = context.getSource().getSender();
+        final List<String> lines = this.profiler.report();
+
+        if (lines.isEmpty()) {
+            sender.sendMessage(Component.text("Aucune mesure n'a encore été enregistrée.", NamedTextColor.YELLOW));
+            return Command.SINGLE_SUCCESS;
+        }
+
+        sender.sendMessage(Component.text("Coût des gestionnaires RunningEgg :", NamedTextColor.GOLD));
+
+        for (final String line : lines) {
+            sender.sendMessage(Component.text(line, NamedTextColor.GRAY));
+        }
+
+        return Command.SINGLE_SUCCESS;
     }
 
     /**
-     * {@code /runningegg spawn set <spawn_label>} command executor, which defines a new spawn point in the plugin
-     * {@code config.yml} at section {@code spawn_point.spawn_label}, whene {@code spawn_label} is the given spawn point
-     * name.
+     * {@code /runningegg profile reset} command executor, which empties every measure of the profiler.
+     *
+     * @param context The command context.
+     * @return {@link Command#SINGLE_SUCCESS} every time the command was successfully executed.
+     */
+    public int resetProfile(CommandContext<CommandSourceStack> context) {
+        this.profiler.reset();
+        context.getSource().getSender().sendMessage(Component.text("Les mesures ont été réinitialisées.",
+                NamedTextColor.GREEN));
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    /**
+     * {@code /runningegg spawn set <arena> <spawn_label>} command executor, which defines a new spawn point in the
+     * plugin {@code config.yml} at section {@code arenas.arena.spawn_points.spawn_label}, where {@code arena} is the
+     * given arena name and {@code spawn_label} is the given spawn point name.
      *
      * @param context The command context.
      * @return {@link Command#SINGLE_SUCCESS} every time the command was successfully executed.
      */
     public int setSpawn(CommandContext<CommandSourceStack> context) {
         final String label = context.getArgument("spawn_label", String.class);
-        final String path = "spawn_points." + label;
+        final String path = this.getSpawnPath(context);
         final Player player = (Player) context.getSource().getSender();
         final Location location = player.getLocation();
         
         if (this.config.getLocation(path) != null) {
             player.sendMessage(Component.text(("Le point d'apparition '%s' a déjà été défini. Tapez '/runningegg " +
-                            "spawn teleport %s' pour vous y rendre.").formatted(label, label),
+                            "spawn teleport %s %s' pour vous y rendre.").formatted(label,
+                            context.getArgument("arena", String.class), label),
                     NamedTextColor.RED));
 
             return Command.SINGLE_SUCCESS;
         }
         
-        this.config.set("spawn_points." + label, location);
-        this.core.saveConfig();
+        this.config.set(path, location);
         player.sendMessage(Component.text("Le point d'apparition '%s' a bien été défini !".formatted(label),
                 NamedTextColor.GREEN));
         
@@ -61,16 +103,16 @@ public class RunningEggCommands {
     }
 
     /**
-     * {@code /runningegg spawn delete <spawn_label>} command executor, which deletes the existing spawn point from the
-     * plugin {@code config.yml} file at section {@code spawn_points.spawn_label}, where {@code spawn_label} is the
-     * given spawn point name.
+     * {@code /runningegg spawn delete <arena> <spawn_label>} command executor, which deletes the existing spawn point
+     * from the plugin {@code config.yml} file at section {@code arenas.arena.spawn_points.spawn_label}, where
+     * {@code arena} is the given arena name and {@code spawn_label} is the given spawn point name.
      *
      * @param context The command context.
      * @return {@link Command#SINGLE_SUCCESS} every time the command was successfully executed.
      */
     public int delSpawn(CommandContext<CommandSourceStack> context) {
         final String label = context.getArgument("spawn_label", String.class);
-        final String path = "spawn_points." + label;
+        final String path = this.getSpawnPath(context);
         final CommandSender sender = context.getSource().getSender();
         
         if (this.config.getLocation(path) == null) {
@@ -80,8 +122,7 @@ public class RunningEggCommands {
             return Command.SINGLE_SUCCESS;
         }
 
-        this.config.set("spawn_points." + label, null);
-        this.core.saveConfig();
+        this.config.set(path, null);
         sender.sendMessage(Component.text("Le point d'apparition '%s' a bien été supprimé !".formatted(label),
                 NamedTextColor.GREEN));
         
@@ -89,8 +130,9 @@ public class RunningEggCommands {
     }
 
     /**
-     * {@code /runningegg spawn set <spawn_label>} command executor, which teleports the {@link Player} who executes it
-     * at the location stored in the plugin {@code config.yml} file, at section {@code spawn_points.spawn_label}, where
+     * {@code /runningegg spawn teleport <arena> <spawn_label>} command executor, which teleports the {@link Player}
+     * who executes it at the location stored in the plugin {@code config.yml} file, at section
+     * {@code arenas.arena.spawn_points.spawn_label}, where {@code arena} is the given arena name and
      * {@code spawn_label} is the given spawn point name.
      *
      * @param context The command context.
@@ -98,7 +140,7 @@ public class RunningEggCommands {
      */
     public int teleportToSpawn(CommandContext<CommandSourceStack> context) {
         final String label = context.getArgument("spawn_label", String.class);
-        final String path = "spawn_points." + label;
+        final String path = this.getSpawnPath(context);
         final Player player = (Player) context.getSource().getSender();
         final Location location = this.config.getLocation(path);
 
@@ -115,4 +157,18 @@ public class RunningEggCommands {
 
         return Command.SINGLE_SUCCESS;
     }
+
+    /**
+     * Builds the {@code config.yml} path of the spawn point given in the {@code arena} and {@code spawn_label}
+     * arguments of the command.
+     *
+     * @param context The command context.
+     * @return The said path.
+     */
+    private String getSpawnPath(CommandContext<CommandSourceStack> context) {
+        final String arena = context.getArgument("arena", String.class);
+        final String label = context.getArgument("spawn_label", String.class);
+
+        return "arenas." + arena + ".spawn_points." + label;
+    }
 }
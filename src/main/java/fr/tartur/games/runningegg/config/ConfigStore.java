@@ -0,0 +1,180 @@
+package fr.tartur.games.runningegg.config;
+
+import fr.tartur.games.runningegg.profiler.HandlerProfiler;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Class wrapping the plugin's {@code config.yml} file as a write-behind store. Every change is applied to the
+ * in-memory {@link FileConfiguration}, from which reads are done, and the file is written at most once per flush delay
+ * no matter how many changes happened in between.
+ * <p>
+ * The configuration is serialized on the global region thread, but written on disk asynchronously to a temporary file
+ * which then atomically replaces the real one, so that a crash can never leave a truncated {@code config.yml} file.
+ * Since commands may run on any region thread, every access to the in-memory configuration is synchronized.
+ */
+public class ConfigStore {
+
+    /**
+     * Delay (in milliseconds) between a change and the matching write when none is written in the plugin's
+     * {@code config.yml} file.
+     */
+    public static final long DEFAULT_FLUSH_DELAY = 1000L;
+
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private final JavaPlugin plugin;
+    private final Logger log;
+    private final HandlerProfiler profiler;
+    private final FileConfiguration config;
+    private final Path file;
+    private final long flushDelay;
+    private final Object writeLock;
+    private final LongAdder flushes;
+    private final LongAdder flushTime;
+    private boolean scheduled;
+    private long version;
+    private volatile long written;
+
+    /**
+     * Class constructor, which needs the {@link JavaPlugin} instance owning the {@code config.yml} file, and the
+     * {@link HandlerProfiler} measuring the serialization and write tasks.
+     *
+     * @param plugin The main plugin instance.
+     * @param flushDelay The delay between a change and the matching write, in milliseconds.
+     * @param profiler The said profiler.
+     */
+    public ConfigStore(JavaPlugin plugin, long flushDelay, HandlerProfiler profiler) {
+        this.plugin = plugin;
+        this.log = plugin.getLogger();
+        this.profiler = profiler;
+        this.config = plugin.getConfig();
+        this.file = plugin.getDataFolder().toPath().resolve("config.yml");
+        this.flushDelay = Math.max(MILLIS_PER_TICK, flushDelay);
+        this.writeLock = new Object();
+        this.scheduled = false;
+        this.version = 0L;
+        this.written = 0L;
+        this.flushes = new LongAdder();
+        this.flushTime = new LongAdder();
+    }
+
+    /**
+     * Gets the {@link Location} stored at the given path, from the in-memory configuration.
+     *
+     * @param path The configuration path.
+     * @return The said location, or {@code null} if there is none.
+     */
+    public synchronized Location getLocation(String path) {
+        return this.config.getLocation(path);
+    }
+
+    /**
+     * Sets the given value at the given path, and schedules a write of the file if none is pending.
+     *
+     * @param path The configuration path.
+     * @param value The value to set, or {@code null} to remove the path.
+     */
+    public synchronized void set(String path, Object value) {
+        this.config.set(path, value);
+        ++this.version;
+
+        if (!this.scheduled) {
+            this.scheduled = true;
+            Bukkit.getGlobalRegionScheduler().runDelayed(this.plugin, this.profiler.measure(HandlerProfiler.GLOBAL,
+                    "ConfigStore#serialize", task -> this.flushAsync()), this.flushDelay / MILLIS_PER_TICK);
+        }
+    }
+
+    /**
+     * Gets the amount of times the {@code config.yml} file was written.
+     *
+     * @return The said amount.
+     */
+    public long getFlushes() {
+        return this.flushes.sum();
+    }
+
+    /**
+     * Gets the total time spent writing the {@code config.yml} file.
+     *
+     * @return The said time, in nanoseconds.
+     */
+    public long getFlushTime() {
+        return this.flushTime.sum();
+    }
+
+    /**
+     * Writes the pending changes right away on the current thread, which is usually called when the plugin disables
+     * since no task can be scheduled anymore.
+     */
+    public synchronized void flush() {
+        if (this.version == this.written) {
+            return;
+        }
+
+        this.scheduled = false;
+        this.write(this.version, this.config.saveToString());
+    }
+
+    /**
+     * Serializes the configuration on the global region thread and writes it asynchronously.
+     */
+    private synchronized void flushAsync() {
+        this.scheduled = false;
+
+        final long snapshot = this.version;
+        final String content = this.config.saveToString();
+
+        Bukkit.getAsyncScheduler().runNow(this.plugin, this.profiler.measure(HandlerProfiler.GLOBAL,
+                "ConfigStore#write", task -> this.write(snapshot, content)));
+    }
+
+    /**
+     * Writes the given content to a temporary file and moves it over the {@code config.yml} file, unless a more recent
+     * version has already been written.
+     *
+     * @param snapshot The version of the configuration which was serialized.
+     * @param content The serialized configuration.
+     */
+    private void write(long snapshot, String content) {
+        synchronized (this.writeLock) {
+            if (snapshot <= this.written) {
+                return;
+            }
+
+            final Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+            final long start = System.nanoTime();
+
+            try {
+                Files.createDirectories(this.file.getParent());
+                Files.writeString(temp, content, StandardCharsets.UTF_8);
+
+                try {
+                    Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING);
+                }
+
+                this.written = snapshot;
+                this.flushes.increment();
+                this.flushTime.add(System.nanoTime() - start);
+            } catch (IOException e) {
+                this.log.log(Level.SEVERE, "Could not save config.yml.", e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package fr.tartur.games.runningegg.config;
+
+/**
+ * Enumeration of every message shown to the players, each of them being written in the {@code messages} section of the
+ * plugin's {@code config.yml} file with the MiniMessage format. The default messages are only written in the
+ * {@code config.yml} file bundled with the plugin.
+ *
+ * @see MessageCatalog
+ */
+public enum Message {
+
+    COUNTDOWN_TITLE("countdown.title"),
+    COUNTDOWN_SUBTITLE("countdown.subtitle"),
+    SELECTION_TITLE("selection.title"),
+    SELECTION_SUBTITLE("selection.subtitle"),
+    HUNTER_TITLE("hunter.title"),
+    HUNTER_SUBTITLE("hunter.subtitle"),
+    PRAY_TITLE("pray.title"),
+    PRAY_SUBTITLE("pray.subtitle"),
+    ESCAPE_TITLE("escape.title"),
+    ESCAPE_SUBTITLE("escape.subtitle"),
+    ALL_ESCAPED_TITLE("all_escaped.title"),
+    ALL_ESCAPED_SUBTITLE("all_escaped.subtitle"),
+    LOSE_TITLE("lose.title"),
+    LOSE_SUBTITLE("lose.subtitle"),
+    LOSE_MESSAGE("lose.message"),
+    VICTORY_TITLE("victory.title"),
+    VICTORY_SUBTITLE("victory.subtitle"),
+    VICTORY_MESSAGE("victory.message"),
+    END_TITLE("end.title"),
+    END_SUBTITLE("end.subtitle"),
+    FORBIDDEN_ACTION("forbidden_action"),
+    SELF_HIT("self_hit"),
+    HUNTER_LEFT("hunter_left"),
+    ARENAS_FULL("arenas_full"),
+    GAME_CANCELLED("game_cancelled");
+
+    private final String path;
+
+    /**
+     * Enumeration constructor, which needs the message path in the {@code messages} section.
+     *
+     * @param path The said path.
+     */
+    Message(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Gets the message path in the {@code messages} section of the plugin's {@code config.yml} file.
+     *
+     * @return The said path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+}
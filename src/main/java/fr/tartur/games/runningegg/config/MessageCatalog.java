@@ -0,0 +1,233 @@
+package fr.tartur.games.runningegg.config;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.title.Title;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Class which holds every {@link Message} shown to the players, deserialized once from the plugin's {@code config.yml}
+ * file. Every {@link Component} and {@link Title} is immutable and built on load, so that showing a message never
+ * parses nor allocates it again, no matter how many players receive it.
+ * <p>
+ * Dynamic values are handled with placeholders: the {@code <seconds>} of the countdown are rendered for every possible
+ * value on load, and the {@code <winner>} name is filled in once per game.
+ */
+public class MessageCatalog {
+
+    /**
+     * Highest countdown value, in seconds, for which a title is rendered.
+     */
+    public static final int MAX_COUNTDOWN = 30;
+
+    private static final String WINNER_MARKER = "\uE000";
+
+    private static final Title.Times ALERT_TIMES = Title.Times.times(
+            Duration.ofMillis(250L),
+            Duration.ofMillis(1500L),
+            Duration.ofMillis(250L)
+    );
+
+    private final Map<Message, Component> components;
+    private final Title[] countdown;
+    private final Title selection;
+    private final Title hunter;
+    private final Title pray;
+    private final Title escape;
+    private final Title allEscaped;
+    private final Title lose;
+    private final Title victory;
+
+    /**
+     * Class constructor, which deserializes every {@link Message} of the given section and builds every fixed
+     * {@link Title}.
+     *
+     * @param section The {@code messages} section of the configuration.
+     */
+    private MessageCatalog(ConfigurationSection section) {
+        final MiniMessage miniMessage = MiniMessage.miniMessage();
+
+        this.components = new EnumMap<>(Message.class);
+        this.countdown = new Title[MAX_COUNTDOWN + 1];
+
+        for (final Message message : Message.values()) {
+            this.components.put(message, miniMessage.deserialize(raw(section, message),
+                    Placeholder.unparsed("winner", WINNER_MARKER)));
+        }
+
+        final String countdownTitle = raw(section, Message.COUNTDOWN_TITLE);
+
+        for (int seconds = 0; seconds <= MAX_COUNTDOWN; ++seconds) {
+            this.countdown[seconds] = Title.title(
+                    miniMessage.deserialize(countdownTitle, Placeholder.unparsed("seconds", String.valueOf(seconds))),
+                    this.get(Message.COUNTDOWN_SUBTITLE)
+            );
+        }
+
+        this.selection = this.title(Message.SELECTION_TITLE, Message.SELECTION_SUBTITLE, Title.DEFAULT_TIMES);
+        this.hunter = this.title(Message.HUNTER_TITLE, Message.HUNTER_SUBTITLE, ALERT_TIMES);
+        this.pray = this.title(Message.PRAY_TITLE, Message.PRAY_SUBTITLE, ALERT_TIMES);
+        this.escape = this.title(Message.ESCAPE_TITLE, Message.ESCAPE_SUBTITLE, Title.DEFAULT_TIMES);
+        this.allEscaped = this.title(Message.ALL_ESCAPED_TITLE, Message.ALL_ESCAPED_SUBTITLE, Title.DEFAULT_TIMES);
+        this.lose = this.title(Message.LOSE_TITLE, Message.LOSE_SUBTITLE, Title.DEFAULT_TIMES);
+        this.victory = this.title(Message.VICTORY_TITLE, Message.VICTORY_SUBTITLE, Title.DEFAULT_TIMES);
+    }
+
+    /**
+     * Loads every {@link Message} from the {@code messages} section of the provided configuration. Missing messages
+     * are read from the defaults of the configuration, which {@link JavaPlugin#getConfig()} fills in with the
+     * {@code config.yml} file bundled with the plugin.
+     *
+     * @param config The plugin configuration.
+     * @return The loaded catalog.
+     * @throws IllegalArgumentException If neither the configuration nor its defaults hold a {@code messages} section.
+     */
+    public static MessageCatalog load(FileConfiguration config) {
+        final ConfigurationSection section = config.getConfigurationSection("messages");
+
+        if (section == null) {
+            throw new IllegalArgumentException("No messages section found in the configuration nor in its defaults");
+        }
+
+        return new MessageCatalog(section);
+    }
+
+    /**
+     * Gets the pre-rendered {@link Component} of the given {@link Message}.
+     *
+     * @param message The message.
+     * @return The said component.
+     */
+    public Component get(Message message) {
+        return this.components.get(message);
+    }
+
+    /**
+     * Gets the countdown {@link Title} shown when the given amount of seconds remains before a game starts.
+     *
+     * @param seconds The remaining seconds, in {@code [0, MAX_COUNTDOWN]}.
+     * @return The said title.
+     */
+    public Title countdown(int seconds) {
+        return this.countdown[seconds];
+    }
+
+    /**
+     * Gets the {@link Title} shown while the arrow is spinning.
+     *
+     * @return The said title.
+     */
+    public Title selection() {
+        return selection;
+    }
+
+    /**
+     * Gets the {@link Title} shown to the hunter when the arrow stops.
+     *
+     * @return The said title.
+     */
+    public Title hunter() {
+        return hunter;
+    }
+
+    /**
+     * Gets the {@link Title} shown to the prays when the arrow stops.
+     *
+     * @return The said title.
+     */
+    public Title pray() {
+        return pray;
+    }
+
+    /**
+     * Gets the {@link Title} shown to a pray which has escaped.
+     *
+     * @return The said title.
+     */
+    public Title escape() {
+        return escape;
+    }
+
+    /**
+     * Gets the {@link Title} shown when every pray has escaped.
+     *
+     * @return The said title.
+     */
+    public Title allEscaped() {
+        return allEscaped;
+    }
+
+    /**
+     * Gets the {@link Title} shown to a player hit by the hunter.
+     *
+     * @return The said title.
+     */
+    public Title lose() {
+        return lose;
+    }
+
+    /**
+     * Gets the {@link Title} shown to the winner of a game.
+     *
+     * @return The said title.
+     */
+    public Title victory() {
+        return victory;
+    }
+
+    /**
+     * Builds the {@link Title} shown to every other player when a game ends, filling in the winner name. It is meant
+     * to be built once per game and shown to every player.
+     *
+     * @param winner The name of the winner.
+     * @return The said title.
+     */
+    public Title end(String winner) {
+        final TextReplacementConfig replacement = TextReplacementConfig.builder()
+                .matchLiteral(WINNER_MARKER)
+                .replacement(winner)
+                .build();
+
+        return Title.title(this.get(Message.END_TITLE), this.get(Message.END_SUBTITLE).replaceText(replacement));
+    }
+
+    /**
+     * Reads the raw text of the given {@link Message} from the provided section, falling back to the defaults of its
+     * configuration.
+     *
+     * @param section The {@code messages} section of the configuration.
+     * @param message The message.
+     * @return The said text, in the MiniMessage format.
+     * @throws IllegalArgumentException If neither the section nor its defaults hold the message.
+     */
+    private static String raw(ConfigurationSection section, Message message) {
+        final String raw = section.getString(message.getPath());
+
+        if (raw == null) {
+            throw new IllegalArgumentException("No default value found for message " + message.getPath());
+        }
+
+        return raw;
+    }
+
+    /**
+     * Builds a {@link Title} out of the components of the given messages.
+     *
+     * @param title The title message.
+     * @param subtitle The subtitle message.
+     * @param times The title times.
+     * @return The said title.
+     */
+    private Title title(Message title, Message subtitle, Title.Times times) {
+        return Title.title(this.get(title), this.get(subtitle), times);
+    }
+
+}
@@ -0,0 +1,209 @@
+package fr.tartur.games.runningegg.game;
+
+import fr.tartur.games.runningegg.Core;
+import fr.tartur.games.runningegg.scheduler.TaskMeter;
+import fr.tartur.games.runningegg.scheduler.TickWheel;
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class representing a playable area, which owns its own {@link GameSettings}, {@link WaitingRoom},
+ * {@link FrameManager}, {@link ArenaBorder}, {@link ChunkPins} and running {@link Game}. Arenas never share any state,
+ * so that several games can run at the same time without interfering with each other.
+ *
+ * @see ArenaRegistry
+ */
+public class Arena {
+
+    private final String name;
+    private final GameSettings settings;
+    private final WaitingRoom waitingRoom;
+    private final FrameManager frame;
+    private final ArenaBorder border;
+    private final List<Location> locations;
+    private final ChunkPins pins;
+    private final TaskMeter meter;
+    private final TickWheel wheel;
+    private Game game;
+
+    /**
+     * Bucket index of the arena in its {@link ArenaRegistry}, or {@code -1} if it cannot receive new players.
+     */
+    int bucket;
+
+    /**
+     * Class constructor, which loads the arena resources depending on the provided {@link GameSettings}.
+     *
+     * @param core The main plugin instance.
+     * @param name The arena name, as written in the plugin's {@code config.yml} file.
+     * @param settings The arena settings.
+     */
+    public Arena(Core core, String name, GameSettings settings) {
+        this.name = name;
+        this.settings = settings;
+        this.meter = new TaskMeter();
+        this.wheel = new TickWheel(core, settings.spinLocation(), core.getProfiler(), name);
+        this.waitingRoom = new WaitingRoom(core, this);
+        this.frame = new FrameManager(core, settings, this.wheel, this.meter);
+        this.border = new ArenaBorder(settings.spinLocation(), settings.borderSize());
+        this.locations = new ArrayList<>(settings.playerLocations());
+        this.locations.add(settings.spinLocation());
+        this.pins = new ChunkPins(core, settings.spinLocation(), settings.borderSize());
+        this.game = null;
+        this.bucket = -1;
+    }
+
+    /**
+     * Gets the amount of players waiting in the arena {@link WaitingRoom}.
+     *
+     * @return The said amount.
+     */
+    public int getLoad() {
+        return this.waitingRoom.size();
+    }
+
+    /**
+     * Gets the maximum amount of players the arena can hold, which is its amount of spawn points.
+     *
+     * @return The arena capacity.
+     */
+    public int getCapacity() {
+        return this.settings.playerLocations().size();
+    }
+
+    /**
+     * Checks whether new players can be sent to the arena {@link WaitingRoom}.
+     *
+     * @return {@code true} if no {@link Game} is running and the arena is not full, {@code false} otherwise.
+     */
+    public boolean isOpen() {
+        return this.game == null && this.getLoad() < this.getCapacity();
+    }
+
+    /**
+     * Keeps every chunk inside the arena {@link ArenaBorder} loaded, until {@link #unpin()} is called.
+     */
+    public void pin() {
+        this.pins.pin();
+    }
+
+    /**
+     * Lets the server unload the chunks pinned by {@link #pin()}.
+     */
+    public void unpin() {
+        this.pins.unpin();
+    }
+
+    /**
+     * Gets the amount of arena chunks currently kept loaded.
+     *
+     * @return The said amount.
+     */
+    public int getPinnedChunks() {
+        return this.pins.size();
+    }
+
+    /**
+     * Gets the arena name.
+     *
+     * @return The said name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the arena {@link GameSettings}.
+     *
+     * @return The said settings.
+     */
+    public GameSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Gets the arena {@link WaitingRoom}.
+     *
+     * @return The said waiting room.
+     */
+    public WaitingRoom getWaitingRoom() {
+        return waitingRoom;
+    }
+
+    /**
+     * Gets the arena {@link FrameManager}.
+     *
+     * @return The said frame manager.
+     */
+    public FrameManager getFrame() {
+        return frame;
+    }
+
+    /**
+     * Gets the arena {@link ArenaBorder}.
+     *
+     * @return The said border.
+     */
+    public ArenaBorder getBorder() {
+        return border;
+    }
+
+    /**
+     * Gets every {@link Location} players can be teleported to in the arena, which are its spawn points and its spin
+     * location.
+     *
+     * @return A read-only view of the said locations.
+     */
+    public List<Location> getLocations() {
+        return Collections.unmodifiableList(this.locations);
+    }
+
+    /**
+     * Gets the {@link TickWheel} running every timer of the arena, on the region owning its spin location.
+     *
+     * @return The said wheel.
+     */
+    public TickWheel getWheel() {
+        return wheel;
+    }
+
+    /**
+     * Gets the {@link TaskMeter} accounting the cost of every task the arena registers in the {@link TickWheel}.
+     *
+     * @return The said meter.
+     */
+    public TaskMeter getMeter() {
+        return meter;
+    }
+
+    /**
+     * Gets the {@link Game} running in the arena.
+     *
+     * @return The running game, or {@code null} if there is none.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Sets the {@link Game} running in the arena.
+     *
+     * @param game The running game, or {@code null} when it ends.
+     */
+    public void setGame(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Checks whether a {@link Game} is running in the arena.
+     *
+     * @return {@code true} if a game is running, {@code false} otherwise.
+     */
+    public boolean isGameRunning() {
+        return this.game != null;
+    }
+
+}
@@ -0,0 +1,88 @@
+package fr.tartur.games.runningegg.game;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.WorldBorder;
+import org.bukkit.entity.Player;
+
+/**
+ * Class representing the border of an {@link Arena}. Instead of resizing the {@link WorldBorder} shared by the whole
+ * world, a virtual border is only sent to the arena players, so that several arenas can live in the same world.
+ */
+public class ArenaBorder {
+
+    private final WorldBorder border;
+    private final double minX;
+    private final double maxX;
+    private final double minZ;
+    private final double maxZ;
+
+    /**
+     * Class constructor, which creates a virtual {@link WorldBorder} of the given size around the provided center.
+     *
+     * @param center The center of the border.
+     * @param size The length of each side of the border.
+     */
+    public ArenaBorder(Location center, double size) {
+        final double radius = size / 2d;
+
+        this.border = Bukkit.createWorldBorder();
+        this.border.setCenter(center.getX(), center.getZ());
+        this.border.setSize(size);
+
+        this.minX = center.getX() - radius;
+        this.maxX = center.getX() + radius;
+        this.minZ = center.getZ() - radius;
+        this.maxZ = center.getZ() + radius;
+    }
+
+    /**
+     * Shows the border to the provided {@link Player}.
+     *
+     * @param player The player.
+     */
+    public void show(Player player) {
+        player.setWorldBorder(this.border);
+    }
+
+    /**
+     * Gives back the world's {@link WorldBorder} to the provided {@link Player}.
+     *
+     * @param player The player.
+     */
+    public void hide(Player player) {
+        player.setWorldBorder(null);
+    }
+
+    /**
+     * Checks whether the given coordinates are touching (or have crossed) the border.
+     *
+     * @param x The X coordinate.
+     * @param z The Z coordinate.
+     * @return {@code true} if the coordinates are on or outside the border, {@code false} otherwise.
+     */
+    public boolean isOutside(double x, double z) {
+        return x <= this.minX || x >= this.maxX || z <= this.minZ || z >= this.maxZ;
+    }
+
+    /**
+     * Computes the distance between the given coordinates and the closest side of the border.
+     *
+     * @param x The X coordinate.
+     * @param z The Z coordinate.
+     * @return The said distance, which is negative or zero if the coordinates are on or outside the border.
+     */
+    public double distanceToEdge(double x, double z) {
+        return Math.min(Math.min(x - this.minX, this.maxX - x), Math.min(z - this.minZ, this.maxZ - z));
+    }
+
+    /**
+     * Gets the virtual {@link WorldBorder} sent to the arena players.
+     *
+     * @return The said border.
+     */
+    public WorldBorder getWorldBorder() {
+        return border;
+    }
+
+}
@@ -0,0 +1,123 @@
+package fr.tartur.games.runningegg.game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Class which stores every {@link Arena} of the server and finds the open ones to route new players to.
+ * <p>
+ * Open arenas are stored in buckets indexed by their load (amount of waiting players), so that finding the most loaded
+ * arena or moving an arena after a join or a leave never requires iterating through every arena.
+ */
+public class ArenaRegistry {
+
+    private final Map<String, Arena> arenas;
+    private final List<Set<Arena>> buckets;
+    private int highest;
+
+    /**
+     * Class constructor, which registers every provided {@link Arena} and opens them.
+     *
+     * @param arenas The server arenas.
+     */
+    public ArenaRegistry(Collection<Arena> arenas) {
+        this.arenas = new LinkedHashMap<>();
+        this.buckets = new ArrayList<>();
+        this.highest = -1;
+
+        for (final Arena arena : arenas) {
+            this.arenas.put(arena.getName(), arena);
+
+            while (this.buckets.size() < arena.getCapacity()) {
+                this.buckets.add(new LinkedHashSet<>());
+            }
+        }
+
+        this.arenas.values().forEach(this::update);
+    }
+
+    /**
+     * Gets the {@link Arena} registered under the provided name.
+     *
+     * @param name The arena name.
+     * @return An {@code Optional} wrapping the said arena, or {@link Optional#empty()} if it does not exist.
+     */
+    public Optional<Arena> get(String name) {
+        return Optional.ofNullable(this.arenas.get(name));
+    }
+
+    /**
+     * Gets every registered {@link Arena}.
+     *
+     * @return An unmodifiable view of the registered arenas.
+     */
+    public Collection<Arena> getArenas() {
+        return Collections.unmodifiableCollection(this.arenas.values());
+    }
+
+    /**
+     * Finds the open {@link Arena} with the most waiting players.
+     *
+     * @return An {@code Optional} wrapping the said arena, or {@link Optional#empty()} if every arena is either full
+     * or running a game.
+     */
+    public Optional<Arena> mostLoaded() {
+        while (this.highest >= 0 && this.buckets.get(this.highest).isEmpty()) {
+            --this.highest;
+        }
+
+        if (this.highest < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(this.buckets.get(this.highest).iterator().next());
+    }
+
+    /**
+     * Finds any {@link Arena} in which a {@link Game} is running.
+     *
+     * @return An {@code Optional} wrapping the said arena, or {@link Optional#empty()} if no game is running.
+     */
+    public Optional<Arena> anyRunning() {
+        for (final Arena arena : this.arenas.values()) {
+            if (arena.isGameRunning()) {
+                return Optional.of(arena);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Moves the provided {@link Arena} to the bucket matching its current load, or removes it from the buckets if it
+     * is not open anymore. Must be called every time the arena load or its running {@link Game} changes.
+     *
+     * @param arena The updated arena.
+     */
+    public void update(Arena arena) {
+        final int bucket = arena.isOpen() ? arena.getLoad() : -1;
+
+        if (bucket == arena.bucket) {
+            return;
+        }
+
+        if (arena.bucket != -1) {
+            this.buckets.get(arena.bucket).remove(arena);
+        }
+
+        arena.bucket = bucket;
+
+        if (bucket != -1) {
+            this.buckets.get(bucket).add(arena);
+            this.highest = Math.max(this.highest, bucket);
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package fr.tartur.games.runningegg.game;
+
+import org.bukkit.Rotation;
+
+/**
+ * Interface used by the {@link ArrowRotator} to show each step of the arrow spinning animation.
+ *
+ * @see SpinRender
+ */
+public interface ArrowRenderer {
+
+    /**
+     * Points the arrow in the given {@link Rotation}.
+     *
+     * @param rotation The rotation at which the arrow will point at.
+     * @param sound Whether the spinning sound has to be played.
+     */
+    void rotate(Rotation rotation, boolean sound);
+
+    /**
+     * Releases every resource used by the renderer, once the arrow has stopped spinning.
+     */
+    default void close() {}
+
+}
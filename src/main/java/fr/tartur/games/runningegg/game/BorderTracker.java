@@ -0,0 +1,144 @@
+package fr.tartur.games.runningegg.game;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class which keeps track of every active {@link GameRole#PRAY} and checks whether they are hitting their
+ * {@link ArenaBorder}.
+ * <p>
+ * Since a player cannot move faster than a given amount of blocks per tick, a player far from the border is not
+ * checked again until it could have possibly reached it. Thus, most moves of tracked players cost a single map lookup,
+ * and moves of untracked players (lobby players, hunters, spectators...) cost nothing more.
+ */
+public class BorderTracker {
+
+    /**
+     * Maximum distance a player can travel in one tick when none is written in the plugin's {@code config.yml} file.
+     */
+    public static final double DEFAULT_MAX_SPEED = 1d;
+
+    private final Map<UUID, Tracked> tracked;
+    private final double maxSpeed;
+    private final LongAdder performed;
+    private final LongAdder skipped;
+
+    /**
+     * Class constructor, which needs the maximum distance (in blocks) a player can travel in one tick.
+     *
+     * @param maxSpeed The said distance.
+     */
+    public BorderTracker(double maxSpeed) {
+        this.tracked = new ConcurrentHashMap<>();
+        this.maxSpeed = maxSpeed;
+        this.performed = new LongAdder();
+        this.skipped = new LongAdder();
+    }
+
+    /**
+     * Starts checking whether the provided {@link Player} hits the given {@link ArenaBorder}.
+     *
+     * @param player The tracked player.
+     * @param border The border of its arena.
+     */
+    public void track(Player player, ArenaBorder border) {
+        this.tracked.put(player.getUniqueId(), new Tracked(border));
+    }
+
+    /**
+     * Stops checking whether the provided {@link Player} hits its {@link ArenaBorder}.
+     *
+     * @param player The player.
+     */
+    public void untrack(Player player) {
+        this.tracked.remove(player.getUniqueId());
+    }
+
+    /**
+     * Checks whether the provided {@link Player}, moving to the given {@link Location}, is touching (or has crossed)
+     * its {@link ArenaBorder}. Untracked players never hit any border.
+     *
+     * @param player The moving player.
+     * @param to The location the player moves to.
+     * @return {@code true} if the player is tracked and touches its border, {@code false} otherwise.
+     */
+    public boolean hitsBorder(Player player, Location to) {
+        final Tracked entry = this.tracked.get(player.getUniqueId());
+
+        if (entry == null) {
+            return false;
+        }
+
+        final int tick = Bukkit.getCurrentTick();
+
+        if (tick < entry.safeUntil) {
+            this.skipped.increment();
+            return false;
+        }
+
+        this.performed.increment();
+
+        final double distance = entry.border.distanceToEdge(to.getX(), to.getZ());
+
+        if (distance <= 0d) {
+            return true;
+        }
+
+        entry.safeUntil = tick + (int) (distance / this.maxSpeed);
+        return false;
+    }
+
+    /**
+     * Gets the amount of border checks which were computed, since the tracked player could have reached its border.
+     *
+     * @return The said amount.
+     */
+    public long getPerformed() {
+        return this.performed.sum();
+    }
+
+    /**
+     * Gets the amount of border checks which were skipped, since the tracked player was too far from its border.
+     *
+     * @return The said amount.
+     */
+    public long getSkipped() {
+        return this.skipped.sum();
+    }
+
+    /**
+     * Gets the amount of tracked players.
+     *
+     * @return The said amount.
+     */
+    public int size() {
+        return this.tracked.size();
+    }
+
+    /**
+     * Mutable entry of a tracked player, storing its border and the first tick at which it may have reached it.
+     */
+    private static final class Tracked {
+
+        private final ArenaBorder border;
+        private int safeUntil;
+
+        /**
+         * Class constructor, which needs the tracked player's {@link ArenaBorder}.
+         *
+         * @param border The said border.
+         */
+        private Tracked(ArenaBorder border) {
+            this.border = border;
+            this.safeUntil = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package fr.tartur.games.runningegg.game;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Class which keeps the chunks covered by an {@link ArenaBorder} loaded with plugin chunk tickets, so that they never
+ * unload between two rounds of a game. Chunks are loaded asynchronously before their ticket is added, and their load
+ * callbacks may run on another thread than the one pinning or unpinning them, so every method is synchronized.
+ *
+ * @see World#addPluginChunkTicket(int, int, Plugin)
+ */
+public class ChunkPins {
+
+    private final Plugin plugin;
+    private final World world;
+    private final int minX;
+    private final int maxX;
+    private final int minZ;
+    private final int maxZ;
+    private final Set<Long> pinned;
+    private boolean active;
+
+    /**
+     * Class constructor, which computes the chunks covered by a border of the given size around the provided center.
+     *
+     * @param plugin The plugin owning the chunk tickets.
+     * @param center The center of the border.
+     * @param size The length of each side of the border.
+     */
+    public ChunkPins(Plugin plugin, Location center, double size) {
+        final double radius = size / 2d;
+
+        this.plugin = plugin;
+        this.world = center.getWorld();
+        this.minX = (int) Math.floor(center.getX() - radius) >> 4;
+        this.maxX = (int) Math.floor(center.getX() + radius) >> 4;
+        this.minZ = (int) Math.floor(center.getZ() - radius) >> 4;
+        this.maxZ = (int) Math.floor(center.getZ() + radius) >> 4;
+        this.pinned = new HashSet<>();
+        this.active = false;
+    }
+
+    /**
+     * Loads every covered chunk and adds a plugin ticket to it, if they are not already pinned.
+     */
+    public synchronized void pin() {
+        if (this.active) {
+            return;
+        }
+
+        this.active = true;
+
+        for (int x = this.minX; x <= this.maxX; ++x) {
+            for (int z = this.minZ; z <= this.maxZ; ++z) {
+                this.world.getChunkAtAsync(x, z).thenAccept(this::onChunkLoad);
+            }
+        }
+    }
+
+    /**
+     * Removes the plugin ticket of every pinned chunk, which lets the server unload them.
+     */
+    public synchronized void unpin() {
+        this.active = false;
+
+        for (final long key : this.pinned) {
+            this.world.removePluginChunkTicket((int) key, (int) (key >> 32), this.plugin);
+        }
+
+        this.pinned.clear();
+    }
+
+    /**
+     * Gets the amount of chunks currently pinned.
+     *
+     * @return The said amount.
+     */
+    public synchronized int size() {
+        return this.pinned.size();
+    }
+
+    /**
+     * Callback run when a covered chunk has been loaded, which adds its ticket unless the chunks were unpinned in the
+     * meantime.
+     *
+     * @param chunk The loaded chunk.
+     */
+    private synchronized void onChunkLoad(Chunk chunk) {
+        if (this.active && chunk.addPluginChunkTicket(this.plugin)) {
+            this.pinned.add(chunk.getChunkKey());
+        }
+    }
+
+}
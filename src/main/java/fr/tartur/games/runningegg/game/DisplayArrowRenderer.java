@@ -0,0 +1,91 @@
+package fr.tartur.games.runningegg.game;
+
+import fr.tartur.games.runningegg.Core;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Rotation;
+import org.bukkit.Sound;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.entity.ItemFrame;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Transformation;
+import org.joml.Quaternionf;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Class which spins the arrow with a temporary {@link ItemDisplay} placed over the arena {@link ItemFrame}. The display
+ * is hidden by default and only shown to the arena players, so that nobody else receives any of its updates, and it is
+ * removed as soon as the arrow stops.
+ *
+ * @see SpinRender#DISPLAY
+ */
+public class DisplayArrowRenderer implements ArrowRenderer {
+
+    private static final float STEP_ANGLE = (float) (Math.PI / 4d);
+
+    private final ItemDisplay display;
+    private final Collection<Player> viewers;
+    private final Location location;
+
+    /**
+     * Class constructor, which spawns the {@link ItemDisplay} facing the same way as the given {@link ItemFrame}, and
+     * shows it to the provided viewers only.
+     *
+     * @param core The main plugin instance, owning the display visibility.
+     * @param frame The frame over which the arrow is displayed.
+     * @param viewers The players allowed to see the arrow.
+     */
+    public DisplayArrowRenderer(Core core, ItemFrame frame, Collection<Player> viewers) {
+        final Consumer<ItemDisplay> setup = display -> {
+            display.setVisibleByDefault(false);
+            display.setPersistent(false);
+            display.setItemStack(ItemStack.of(Material.ARROW));
+            display.setItemDisplayTransform(ItemDisplay.ItemDisplayTransform.FIXED);
+        };
+
+        this.location = frame.getLocation().setDirection(frame.getFacing().getDirection());
+        this.display = this.location.getWorld().spawn(this.location, ItemDisplay.class, setup);
+        this.viewers = viewers;
+
+        for (final Player viewer : viewers) {
+            viewer.showEntity(core, this.display);
+        }
+    }
+
+    /**
+     * Rotates the displayed arrow around the frame axis in the given {@link Rotation}, and plays the
+     * {@link Sound#UI_BUTTON_CLICK} sound to the viewers only if needed.
+     *
+     * @param rotation The rotation at which the arrow will point at.
+     * @param sound Whether the sound has to be played.
+     */
+    @Override
+    public void rotate(Rotation rotation, boolean sound) {
+        final Transformation transformation = this.display.getTransformation();
+
+        this.display.setTransformation(new Transformation(
+                transformation.getTranslation(),
+                new Quaternionf().rotateZ(-rotation.ordinal() * STEP_ANGLE),
+                transformation.getScale(),
+                transformation.getRightRotation()
+        ));
+
+        if (sound) {
+            for (final Player viewer : this.viewers) {
+                viewer.playSound(this.location, Sound.UI_BUTTON_CLICK, 1f, 1f);
+            }
+        }
+    }
+
+    /**
+     * Removes the {@link ItemDisplay} from the world.
+     */
+    @Override
+    public void close() {
+        this.display.remove();
+    }
+
+}
@@ -0,0 +1,47 @@
+package fr.tartur.games.runningegg.game;
+
+import org.bukkit.Location;
+import org.bukkit.Rotation;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.ItemFrame;
+
+/**
+ * Class which spins the arrow inside the real {@link ItemFrame} of the arena.
+ *
+ * @see SpinRender#FRAME
+ */
+public class FrameArrowRenderer implements ArrowRenderer {
+
+    private final ItemFrame frame;
+    private final World world;
+    private final Location location;
+
+    /**
+     * Class constructor, which needs the {@link ItemFrame} containing the arrow.
+     *
+     * @param frame The said frame.
+     */
+    public FrameArrowRenderer(ItemFrame frame) {
+        this.frame = frame;
+        this.location = frame.getLocation();
+        this.world = this.location.getWorld();
+    }
+
+    /**
+     * Rotates the arrow of the class {@link ItemFrame} in the given {@link Rotation}, and plays the
+     * {@link Sound#UI_BUTTON_CLICK} sound around the frame if needed.
+     *
+     * @param rotation The rotation at which the arrow will point at.
+     * @param sound Whether the sound has to be played.
+     */
+    @Override
+    public void rotate(Rotation rotation, boolean sound) {
+        this.frame.setRotation(rotation);
+
+        if (sound) {
+            this.world.playSound(this.location, Sound.UI_BUTTON_CLICK, 1f, 1f);
+        }
+    }
+
+}
@@ -1,50 +1,90 @@
 package fr.tartur.games.runningegg.game;
 
 import fr.tartur.games.runningegg.Core;
+import fr.tartur.games.runningegg.scheduler.TaskMeter;
+import fr.tartur.games.runningegg.scheduler.TickWheel;
+import fr.tartur.games.runningegg.scheduler.Timeout;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Rotation;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.ItemFrame;
+import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitTask;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Class used to handle every interaction the {@link ItemFrame} at the given {@link Location} on class construction.
+ * <p>
+ * The {@code ItemFrame} is looked up once and then kept in memory. It is only looked up again if the entity is not
+ * valid anymore, for instance after its chunk was unloaded.
  *
- * @see FrameManager#FrameManager(Core, ArrowStopListener, Location)
+ * @see FrameManager#FrameManager(Core, GameSettings, TickWheel, TaskMeter)
  */
 public class FrameManager implements ArrowStopListener {
 
     private final Core core;
-    private final ArrowStopListener listener;
     private final Location location;
-    private BukkitTask rotator;
+    private final SpinSchedule[] schedules;
+    private final SpinRender render;
+    private final TickWheel wheel;
+    private final TaskMeter meter;
+    private final LongAdder spins;
+    private final LongAdder spinTicks;
+    private ArrowStopListener listener;
+    private ArrowRenderer renderer;
+    private Timeout rotator;
+    private ItemFrame frame;
+    private UUID frameId;
+    private int resolutions;
 
     /**
-     * Class constructor, which needs the {@link Core} plugin instance to start a {@link BukkitTask}, a {@link Location}
-     * where the {@link ItemFrame} is, and a {@link ArrowStopListener} to trigger when the arrow stops spinning.
+     * Class constructor, which needs the {@link Core} plugin instance, the arena {@link TickWheel} to register the
+     * animation in and the arena {@link GameSettings}, providing the {@link Location} where the {@link ItemFrame} is
+     * and the arrow spinning animation. A {@link SpinSchedule} is computed once for each arrow position.
      *
      * @param core The main plugin instance.
-     * @param listener The listener to trigger on arrow stop.
-     * @param location The location of the {@code ItemFrame}.
+     * @param settings The arena settings.
+     * @param wheel The arena wheel.
+     * @param meter The meter accounting the cost of the arena tasks.
      */
-    public FrameManager(Core core, ArrowStopListener listener, Location location) {
+    public FrameManager(Core core, GameSettings settings, TickWheel wheel, TaskMeter meter) {
+        final int[] easing = settings.spinEasing().stream().mapToInt(Integer::intValue).toArray();
+
         this.core = core;
-        this.listener = listener;
-        this.location = location;
+        this.location = settings.spinLocation();
+        this.schedules = new SpinSchedule[SpinSchedule.POSITIONS];
+        this.render = settings.spinRender();
+        this.wheel = wheel;
+        this.meter = meter;
+
+        for (int target = 0; target < SpinSchedule.POSITIONS; ++target) {
+            this.schedules[target] = SpinSchedule.compute(easing, target, settings.spinSound());
+        }
+
+        this.listener = null;
+        this.renderer = null;
         this.rotator = null;
+        this.frame = null;
+        this.frameId = null;
+        this.resolutions = 0;
+        this.spins = new LongAdder();
+        this.spinTicks = new LongAdder();
     }
 
     /**
-     * Sets an {@link ItemStack} of type {@link Material#ARROW} in the class {@link ItemFrame}.
+     * Sets an {@link ItemStack} of type {@link Material#ARROW} in the class {@link ItemFrame}. If the arrow is rendered
+     * with a {@link SpinRender#DISPLAY}, the frame is emptied instead, since the arrow is shown over it.
      */
     public void setArrow() {
         final ItemFrame frame = this.getItemFrame();
         frame.setRotation(Rotation.NONE);
-        frame.setItem(ItemStack.of(Material.ARROW));
+        frame.setItem(this.render == SpinRender.FRAME ? ItemStack.of(Material.ARROW) : null);
     }
 
     /**
@@ -64,34 +104,122 @@ public class FrameManager implements ArrowStopListener {
     }
 
     /**
-     * Starts the arrow spinning animation.
+     * Starts the arrow spinning animation, and triggers the provided {@link ArrowStopListener} when it stops.
      *
-     * @param target The direction index where the arrow has to point at when it stops spinning.
+     * @param target The direction index where the arrow has to point at when it stops spinning, in
+     * {@code [0, SpinSchedule.POSITIONS[}.
+     * @param listener The listener to trigger on arrow stop.
+     * @param viewers The players allowed to see the arrow, if it is rendered with a {@link SpinRender#DISPLAY}.
      * @see ArrowRotator
      */
-    public void spinArrow(int target) {
-        this.rotator = Bukkit.getScheduler().runTaskTimer(this.core,
-                new ArrowRotator(this, this.getItemFrame(), target), 0L, 2L);
+    public void spinArrow(int target, ArrowStopListener listener, Collection<Player> viewers) {
+        final SpinSchedule schedule = this.schedules[target];
+        final ArrowRenderer renderer = switch (this.render) {
+            case FRAME -> new FrameArrowRenderer(this.getItemFrame());
+            case DISPLAY -> new DisplayArrowRenderer(this.core, this.getItemFrame(), viewers);
+        };
+
+        this.spins.increment();
+        this.spinTicks.add(schedule.getDuration());
+        this.listener = listener;
+        this.renderer = renderer;
+        this.rotator = this.wheel.repeat(1, 1, new ArrowRotator(this, renderer, schedule), this.meter);
+    }
+
+    /**
+     * Stops the arrow spinning animation, if any, without triggering its {@link ArrowStopListener}. It is used when
+     * the round the arrow was spinning for is cancelled.
+     */
+    public void stopSpin() {
+        if (this.rotator == null) {
+            return;
+        }
+
+        this.rotator.cancel();
+        this.renderer.close();
+        this.rotator = null;
+        this.renderer = null;
+        this.listener = null;
     }
 
     /**
      * Method called by the {@link ArrowRotator} instance when the arrow stops spinning. Thus, the class
-     * {@link BukkitTask} will be cancelled, set to null and the class {@link ArrowStopListener} will then be triggered.
+     * {@link Timeout} will be cancelled, set to null and the class {@link ArrowStopListener} will then be triggered.
      */
     @Override
     public void onArrowStop() {
+        final ArrowStopListener listener = this.listener;
+
         this.rotator.cancel();
         this.rotator = null;
-        
-        this.listener.onArrowStop();
+        this.renderer = null;
+        this.listener = null;
+
+        listener.onArrowStop();
+    }
+
+    /**
+     * Gets the amount of arrow spins started, one for each round of the games played in the arena.
+     *
+     * @return The said amount.
+     */
+    public long getSpins() {
+        return this.spins.sum();
+    }
+
+    /**
+     * Gets the total length of every started arrow spin.
+     *
+     * @return The said length, in ticks.
+     */
+    public long getSpinTicks() {
+        return this.spinTicks.sum();
     }
 
     /**
-     * The {@link ItemFrame} at the given class {@link Location}.
+     * Gets the amount of times the {@link ItemFrame} had to be looked up, including the first one.
+     *
+     * @return The said amount.
+     */
+    public int getResolutions() {
+        return resolutions;
+    }
+
+    /**
+     * The {@link ItemFrame} at the given class {@link Location}, which is only looked up if the one kept in memory is
+     * not valid anymore.
      *
      * @return The said {@code ItemFrame}.
      */
     private ItemFrame getItemFrame() {
+        if (this.frame == null || !this.frame.isValid()) {
+            this.frame = this.resolveItemFrame();
+            this.frameId = this.frame.getUniqueId();
+
+            if (++this.resolutions > 1) {
+                this.core.getLogger().info("Item frame at " + this.location.toVector() + " had to be resolved again (" +
+                        this.resolutions + " times so far).");
+            }
+        }
+
+        return this.frame;
+    }
+
+    /**
+     * Looks up the {@link ItemFrame} at the given class {@link Location}, first by its last known {@link UUID}, then
+     * by scanning the nearby entities. If none is found, a new one is spawned.
+     *
+     * @return The said {@code ItemFrame}.
+     */
+    private ItemFrame resolveItemFrame() {
+        if (this.frameId != null) {
+            final Entity entity = Bukkit.getEntity(this.frameId);
+
+            if (entity instanceof final ItemFrame known && known.isValid()) {
+                return known;
+            }
+        }
+
         final Iterator<ItemFrame> iterator = this.location
                 .getNearbyEntitiesByType(ItemFrame.class, 1d)
                 .iterator();
@@ -2,124 +2,262 @@ package fr.tartur.games.runningegg.game;
 
 import fr.tartur.games.runningegg.Core;
 import fr.tartur.games.runningegg.api.events.*;
+import fr.tartur.games.runningegg.config.Message;
+import fr.tartur.games.runningegg.config.MessageCatalog;
 import io.papermc.paper.event.player.PlayerItemFrameChangeEvent;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.title.Title;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.entity.*;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
 /**
  * Class representing a whole game, able to manage a whole Running Egg game during its lifetime.
+ * <p>
+ * A game does not listen to any event on its own: the {@code GameDispatcher} listens to them once for every arena, and
+ * hands each of them to the game of the arena its player is in.
  */
-public class Game implements ArrowStopListener, Listener {
+public class Game implements ArrowStopListener {
 
     /**
-     * Record which groups the game players as a {@link List<Player>}, and also contains the {@link GameSettings}.
+     * Record which groups the {@link UUID} of the game players as a {@link List<UUID>}, and also contains the
+     * {@link GameSettings}.
      * 
      * @param players The game players.
      * @param settings The game settings.
      */
-    public record Data(List<Player> players, GameSettings settings) {}
+    public record Data(List<UUID> players, GameSettings settings) {}
 
     /**
-     * Enumeration which represents the possible game states.
+     * Enumeration which represents the possible game states, along with the transitions allowed between them. A game
+     * goes from {@link #LOADING} to {@link #CHOOSING}, then alternates between {@link #CHOOSING} and {@link #CHASING}
+     * for each round, and ends with {@link #WIN}. A game whose arena could not be loaded goes straight from
+     * {@link #LOADING} to {@link #WIN}.
      */
     public enum State {
         LOADING,
         CHOOSING,
         CHASING,
-        WIN
-    }
+        WIN;
 
-    /**
-     * List which stores the {@link HandlerList} of each event listened by the class. Thus, it can be unregistered when
-     * the game ends, allowing the garbage collector to remove it from the memory.
-     */
-    private static final List<HandlerList> REGISTERED_EVENTS = List.of(
-            PlayerItemFrameChangeEvent.getHandlerList(),
-            PlayerHitsWorldBorderEvent.getHandlerList(),
-            EntityHitsWorldBorderEvent.getHandlerList(),
-            PlayerHitByEggEvent.getHandlerList(),
-            BlockHitByEggEvent.getHandlerList(),
-            PlayerMoveEvent.getHandlerList()
-    );
+        private static final Map<State, Set<State>> TRANSITIONS = new EnumMap<>(State.class);
+
+        static {
+            TRANSITIONS.put(LOADING, EnumSet.of(CHOOSING, WIN));
+            TRANSITIONS.put(CHOOSING, EnumSet.of(CHASING, WIN));
+            TRANSITIONS.put(CHASING, EnumSet.of(CHOOSING, WIN));
+            TRANSITIONS.put(WIN, EnumSet.noneOf(State.class));
+        }
+
+        /**
+         * Checks whether a game in this state can switch to the provided one.
+         *
+         * @param next The next state.
+         * @return {@code true} if the transition is allowed, {@code false} otherwise.
+         */
+        public boolean canBecome(State next) {
+            return TRANSITIONS.get(this).contains(next);
+        }
+    }
 
     private final Core core;
+    private final MessageCatalog messages;
+    private final Arena arena;
     private final Data data;
     private final Location middle;
     private final FrameManager frame;
+    private final ArenaBorder border;
+    private final BorderTracker tracker;
+    private final TeleportService teleports;
     private final GamePlayers players;
-    private State state;
+    private final Set<UUID> eggs;
+    private volatile State state;
+    private volatile int round;
 
     /**
      * Class constructor, which sets the game state as {@link State#LOADING} and loads every resource it needs depending
      * on the provided {@link Data}.
      * 
      * @param core The main class of the plugin.
+     * @param arena The arena in which the game is played.
      * @param data The game data.
+     * @param tracker The tracker checking whether prays hit the arena border.
+     * @param teleports The service moving the players around the arena.
      */
-    public Game(Core core, Data data) {
+    public Game(Core core, Arena arena, Data data, BorderTracker tracker, TeleportService teleports) {
         this.core = core;
+        this.messages = core.getMessages();
+        this.arena = arena;
         this.data = data;
         this.middle = data.settings().spinLocation();
-        this.frame = new FrameManager(core, this, this.middle);
-        this.players = new GamePlayers(data);
+        this.frame = arena.getFrame();
+        this.border = arena.getBorder();
+        this.tracker = tracker;
+        this.teleports = teleports;
+        this.players = new GamePlayers(data, teleports, this.messages);
+        this.eggs = ConcurrentHashMap.newKeySet();
         
         this.state = State.LOADING;
+        this.round = 0;
     }
 
     /**
-     * Starts the game, which also creates the world border and starts the game loop.
+     * Starts the game, which also shows the arena border to every player, loads the chunks of the arena spawn points
+     * and starts the game loop once they are loaded, on the region owning the arena. If they could not be loaded, the
+     * game is cancelled.
      */
     public void start() {
         if (!this.isRunning()) {
-            final WorldBorder border = this.middle.getWorld().getWorldBorder();
-            border.setCenter(this.middle);
-            border.setSize(50);
+            for (final Player player : this.players.getAll()) {
+                this.border.show(player);
+            }
+
+            this.teleports.preload(this.arena.getLocations()).whenComplete((ignored, throwable) ->
+                    Bukkit.getRegionScheduler().run(this.core, this.middle, task -> {
+                        if (throwable == null) {
+                            this.begin();
+                            return;
+                        }
+
+                        this.core.getLogger().log(Level.SEVERE, "Could not load the chunks of arena '" +
+                                this.arena.getName() + "', its game is cancelled.", throwable);
+                        this.abort();
+                    }));
+        }
+    }
+
+    /**
+     * Starts the first round once the arena is loaded, unless players left while it was loading: if a single player is
+     * left, it wins the game, and if none is left, the game is cancelled.
+     */
+    private void begin() {
+        final int playing = this.players.countPlaying();
+
+        if (playing > 1) {
             this.loop();
+        } else if (playing == 1) {
+            this.stop(this.players.getPlaying().iterator().next());
+        } else {
+            this.abort();
         }
     }
 
     /**
-     * Main game loop, which sets the game's state to {@link State#CHOOSING}, picks a random player and defines it as
-     * the game {@link GameRole#HUNTER}, and spins the arrow (which will, at some point, point to the predefined
-     * hunter).
+     * Cancels the game before its first round, without any winner.
+     */
+    private void abort() {
+        if (this.transition(State.WIN)) {
+            for (final Player player : this.players.getAll()) {
+                this.border.hide(player);
+            }
+
+            this.players.unfreeze();
+            this.broadcast(this.messages.get(Message.GAME_CANCELLED));
+            new GameEndEvent(this).callEvent();
+        }
+    }
+
+    /**
+     * Main game loop, which starts a new round: it sets the game's state to {@link State#CHOOSING}, picks a random
+     * player and defines it as the game {@link GameRole#HUNTER}, and spins the arrow (which will, at some point, point
+     * to the predefined hunter) once every player has been teleported to its spawn point.
+     * <p>
+     * Nothing happens if a round is already being chosen or if the game has ended, so that several callbacks ending
+     * the same round only start a single new one.
      */
     private void loop() {
+        if (this.transition(State.CHOOSING)) {
+            this.newRound();
+        }
+    }
+
+    /**
+     * Starts a new round right away, even if one is already being chosen: in this case, the arrow spinning for the
+     * current round is stopped, so that it never announces its hunter. It is used when the hunter leaves the game.
+     */
+    private void restart() {
         if (this.state == State.CHOOSING) {
-            return;
+            this.frame.stopSpin();
+            this.newRound();
+        } else {
+            this.loop();
         }
-        
-        this.reset();
-        
+    }
+
+    /**
+     * Starts a new round, the game being already in the {@link State#CHOOSING} state.
+     */
+    private void newRound() {
+        final int current = ++this.round;
+        this.eggs.clear();
+        final CompletableFuture<Void> teleported = this.reset(current);
         final int hunterIndex = this.players.defineRandomHunter();
         
-        for (final Player player : this.players.getPlaying()) {
-            player.showTitle(Title.title(
-                    Component.text("Sélection du chasseur...", NamedTextColor.GOLD),
-                    Component.text("Apprêtez-vous à courir !", NamedTextColor.GREEN)
-            ));
-        }
+        this.players.playing().showTitle(this.messages.selection());
         
-        this.frame.spinArrow(hunterIndex);
+        teleported.whenComplete((ignored, throwable) ->
+                Bukkit.getRegionScheduler().run(this.core, this.middle, task -> {
+                    if (this.isCurrent(current, State.CHOOSING)) {
+                        this.frame.spinArrow(hunterIndex, this, this.players.getAll());
+                    }
+                }));
+    }
+
+    /**
+     * Starts a new round, unless the given one is not the current one anymore. It is meant to be used by delayed
+     * callbacks, which may run after their round has already ended.
+     *
+     * @param expected The round which scheduled the callback.
+     */
+    private void loop(int expected) {
+        if (this.round == expected) {
+            this.loop();
+        }
     }
 
     /**
-     * Clears each player's potion effects and puts it role to {@link GameRole#WAITING}.
+     * Clears each player's potion effects and puts it role to {@link GameRole#WAITING}. The players are only frozen if
+     * the given round is still being chosen once they are prepared, since a player may leave and end the game before.
+     *
+     * @param current The round being started.
+     * @return A future completed once every player has been teleported to its spawn point.
      */
-    private void reset() {
-        this.state = State.CHOOSING;
+    private CompletableFuture<Void> reset(int current) {
+        this.untrackAll();
         this.frame.setArrow();
-        this.players.reset();
+        return this.players.reset(() -> this.isCurrent(current, State.CHOOSING));
+    }
+
+    /**
+     * Switches the game to the provided {@link State} if the transition is allowed from the current one.
+     *
+     * @param next The next state.
+     * @return {@code true} if the state was switched, {@code false} otherwise.
+     */
+    private boolean transition(State next) {
+        if (!this.state.canBecome(next)) {
+            return false;
+        }
+
+        this.state = next;
+        return true;
+    }
+
+    /**
+     * Checks whether the provided round is still the current one, and whether the game is in the given
+     * {@link State}.
+     *
+     * @param expected The round.
+     * @param state The state.
+     * @return {@code true} if both match, {@code false} otherwise.
+     */
+    private boolean isCurrent(int expected, State state) {
+        return this.round == expected && this.state == state;
     }
 
     /**
@@ -129,15 +267,18 @@ public class Game implements ArrowStopListener, Listener {
      * @param winner The game winner.
      */
     private void stop(Player winner) {
-        if (this.state != State.WIN) {
-            final WorldBorder border = this.middle.getWorld().getWorldBorder();
-            border.setSize(border.getMaxSize());
-            
-            this.state = State.WIN;
+        if (this.transition(State.WIN)) {
+            this.frame.stopSpin();
+            this.untrackAll();
+
+            for (final Player player : this.players.getAll()) {
+                this.border.hide(player);
+            }
+
+            this.players.unfreeze();
             this.players.win(winner);
 
-            Bukkit.getScheduler().scheduleSyncDelayedTask(this.core,
-                    () -> new GameEndEvent(this).callEvent(), 5 * 20L);
+            this.arena.getWheel().schedule(5 * 20, () -> new GameEndEvent(this).callEvent(), this.arena.getMeter());
         }
     }
 
@@ -147,23 +288,35 @@ public class Game implements ArrowStopListener, Listener {
      */
     @Override
     public void onArrowStop() {
-        this.state = State.CHASING;
+        if (!this.transition(State.CHASING)) {
+            return;
+        }
+
         this.frame.setEgg();
+        this.players.unfreeze();
         this.players.alert();
+
+        for (final Player pray : this.players.getPrays()) {
+            this.tracker.track(pray, this.border);
+        }
     }
 
     /**
-     * Event callback triggered when the player tries to steal the item from the item frame, which is cancelled either
+     * Callback triggered when the player tries to steal the item from the item frame, which is cancelled either
      * if the player is not the {@link GameRole#HUNTER}, or if the game's state is not {@link State#CHASING} or if the
      * event is not of type {@link PlayerItemFrameChangeEvent.ItemFrameChangeAction#REMOVE}.
      * 
      * @param event The event.
      */
-    @EventHandler
     public void onPlayerClickAtItemFrame(PlayerItemFrameChangeEvent event) {
-        event.setCancelled(true);
         final Player player = event.getPlayer();
 
+        if (!this.isPresent(player)) {
+            return;
+        }
+
+        event.setCancelled(true);
+
         if (this.state == State.CHASING
                 && this.players.hasRole(player, GameRole.HUNTER)
                 && event.getAction() == PlayerItemFrameChangeEvent.ItemFrameChangeAction.ROTATE) {
@@ -171,124 +324,169 @@ public class Game implements ArrowStopListener, Listener {
             player.getInventory().addItem(ItemStack.of(Material.EGG));
             this.middle.getWorld().strikeLightningEffect(this.middle);
         } else {
-            player.sendMessage(Component.text("Vous ne pouvez pas faire cela.", NamedTextColor.DARK_RED));
+            player.sendMessage(this.messages.get(Message.FORBIDDEN_ACTION));
         }
     }
 
     /**
-     * Event callback triggered when a player playing as a {@link GameRole#PRAY} hits the world border.
+     * Callback triggered when a player playing as a {@link GameRole#PRAY} hits the world border.
      * 
      * @param event The event.
      */
-    @EventHandler
     public void onPlayerHitsWorldBorder(PlayerHitsWorldBorderEvent event) {
         final Player player = event.getPlayer();
         
         if (this.players.hasRole(player, GameRole.PRAY)) {
+            this.tracker.untrack(player);
             this.players.escape(player);
 
-            if (this.players.getPrays().isEmpty()) {
-                for (final Player playing : this.getPlayers().getPlaying()) {
-                    playing.showTitle(Title.title(
-                            Component.text("PROIES ÉCHAPPÉES", NamedTextColor.DARK_AQUA),
-                            Component.text("Toutes les proies se sont enfuies !", NamedTextColor.LIGHT_PURPLE)
-                    ));
-                }
+            if (this.players.countPrays() == 0) {
+                final int current = this.round;
 
-                Bukkit.getScheduler().scheduleSyncDelayedTask(this.core, this::loop, 20L * 3L);
+                this.players.playing().showTitle(this.messages.allEscaped());
+                this.arena.getWheel().schedule(20 * 3, () -> this.loop(current), this.arena.getMeter());
             }
         }
     }
 
     /**
-     * Event callback triggered when a thrown egg hits the {@link WorldBorder}.
+     * Callback triggered when an {@link Egg} is thrown by a player of the game. An egg thrown by the
+     * {@link GameRole#HUNTER} while chasing is bound to the current round, so that it can only end this round.
+     *
+     * @param egg The thrown egg.
+     */
+    public void onEggLaunch(Egg egg) {
+        if (this.state == State.CHASING && egg.getShooter() instanceof final Player shooter
+                && this.players.hasRole(shooter, GameRole.HUNTER)) {
+            this.eggs.add(egg.getUniqueId());
+        }
+    }
+
+    /**
+     * Callback triggered when a thrown egg hits the {@link ArenaBorder}.
      * 
      * @param event The event.
      */
-    @EventHandler
     public void onEggHitsWorldBorder(EntityHitsWorldBorderEvent event) {
-        if (!(event.getEntity() instanceof final Egg egg)) {
+        if (!(event.getEntity() instanceof final Egg egg) || !this.isThrownHere(egg)) {
             return;
         }
         
         egg.remove();
-        this.loop();
+
+        if (this.land(egg)) {
+            this.loop();
+        }
     }
 
     /**
-     * Event callback triggered when an {@link Egg} hits a {@link Player}.
+     * Callback triggered when an {@link Egg} hits a {@link Player}. Only an egg thrown during the current round can
+     * make a {@link GameRole#PRAY} lose.
      *
      * @param event The event.
      */
-    @EventHandler
     public void onPlayerHitByEgg(PlayerHitByEggEvent event) {
+        final Player player = event.getHitEntity();
+
+        if (!this.isThrownHere(event.getEntity()) || !this.isPresent(player)) {
+            return;
+        }
+
         event.setCancelled(true);
 
-        final Player player = event.getHitEntity();
+        if (!this.land(event.getEntity())) {
+            return;
+        }
 
         if (this.players.hasRole(player, GameRole.HUNTER)) {
-            player.sendMessage(Component.text("Vous ne pouvez pas vous tirer dessus !",
-                    NamedTextColor.DARK_RED));
+            player.sendMessage(this.messages.get(Message.SELF_HIT));
             player.getInventory().addItem(ItemStack.of(Material.EGG));
 
             return;
-        } else {
-            this.players.lose(player);
         }
 
-        final List<Player> players = this.players.getPlaying();
+        if (!this.players.hasRole(player, GameRole.PRAY)) {
+            return;
+        }
 
-        if (players.size() == 1) {
-            this.stop(players.getFirst());
+        this.tracker.untrack(player);
+        this.players.lose(player);
+
+        if (this.players.countPlaying() == 1) {
+            this.stop(this.players.getPlaying().iterator().next());
         } else {
             this.loop();
         }
     }
 
     /**
-     * Event callback triggered when an {@link Egg} hits a {@link Block}.
+     * Callback triggered when an {@link Egg} hits a {@link Block}.
      *
      * @param event The event.
      */
-    @EventHandler
     public void onBlockHitByEgg(BlockHitByEggEvent event) {
+        if (!this.isThrownHere(event.getEntity())) {
+            return;
+        }
+
         event.setCancelled(true);
-        this.loop();
-    }
 
-    /**
-     * Event callback triggered when a player tries to move while the game state is set to {@link State#CHOOSING}.
-     *
-     * @param event The event.
-     */
-    @EventHandler
-    public void onMove(PlayerMoveEvent event) {
-        if (this.state == State.CHOOSING && this.players.getPlaying().contains(event.getPlayer())) {
-            event.setCancelled(true);
+        if (this.land(event.getEntity())) {
+            this.loop();
         }
     }
 
     /**
-     * Sets the provided {@link Player} as a {@link GameRole#SPECTATOR} and adds it to the list of game players.
+     * Sets the provided {@link Player} as a {@link GameRole#SPECTATOR} and adds it to the list of game players. It must
+     * be called on the thread owning the arena, while the player itself is changed on the thread owning it.
      *
      * @param player The connecting player.
      */
     public void connect(Player player) {
-        this.players.setSpectator(player);
+        final boolean show = this.state != State.WIN;
+
+        this.players.addSpectator(player);
+
+        player.getScheduler().run(this.core, task -> {
+            GamePlayers.unfreeze(player);
+            player.setGameMode(GameMode.SPECTATOR);
+
+            if (show) {
+                this.border.show(player);
+            }
+        }, null);
     }
 
     /**
-     * Sets the provided {@link Player} as a {@link GameRole#SPECTATOR}.
+     * Removes the provided {@link Player} from the game. If a single player is still playing, it wins the game.
+     * Otherwise, a new round starts if the leaving player was the {@link GameRole#HUNTER}, even if the arrow was still
+     * spinning to choose it. While the arena is still loading, the players left are only counted once it is loaded.
+     * <p>
+     * It must be called on the thread owning the arena, while the player itself is changed on the thread owning it, if
+     * it is still online.
      * 
      * @param player The disconnecting player.
      */
     public void disconnect(Player player) {
-        if (this.players.hasRole(player, GameRole.HUNTER)) {
-            this.players.setSpectator(player);
-            this.broadcast(Component.text("Le chasseur a quitté la partie !", NamedTextColor.RED));
-            this.loop();
-        } else {
-            this.players.setSpectator(player);
+        final boolean hunter = this.players.hasRole(player, GameRole.HUNTER);
+
+        this.tracker.untrack(player);
+        this.players.remove(player);
+
+        player.getScheduler().run(this.core, task -> {
+            GamePlayers.unfreeze(player);
+            this.border.hide(player);
+        }, null);
+
+        if (!this.isRunning() || this.state == State.WIN) {
+            return;
+        }
+
+        if (this.players.countPlaying() == 1) {
+            this.stop(this.players.getPlaying().iterator().next());
+        } else if (hunter) {
+            this.broadcast(this.messages.get(Message.HUNTER_LEFT));
+            this.restart();
         }
     }
 
@@ -308,7 +506,37 @@ public class Game implements ArrowStopListener, Listener {
      * @return {@code true} if the player is in the game, {@code false} otherwise.
      */
     public boolean isPresent(Player player) {
-        return this.data.players().contains(player);
+        return this.players.contains(player);
+    }
+
+    /**
+     * Stops tracking every player of the game in the {@link BorderTracker}.
+     */
+    private void untrackAll() {
+        for (final Player player : this.players.getAll()) {
+            this.tracker.untrack(player);
+        }
+    }
+
+    /**
+     * Marks the provided {@link Egg} as landed, and checks whether it was thrown during the current round while
+     * chasing. An egg from a previous round, or one landing after the game has ended, is thus ignored.
+     *
+     * @param egg The landed egg.
+     * @return {@code true} if the egg belongs to the current round, {@code false} otherwise.
+     */
+    private boolean land(Egg egg) {
+        return this.eggs.remove(egg.getUniqueId()) && this.state == State.CHASING;
+    }
+
+    /**
+     * Checks if the provided {@link Projectile} was thrown by a {@link Player} of the game.
+     *
+     * @param projectile The projectile.
+     * @return {@code true} if the shooter is in the game, {@code false} otherwise.
+     */
+    private boolean isThrownHere(Projectile projectile) {
+        return projectile.getShooter() instanceof final Player shooter && this.isPresent(shooter);
     }
 
     /**
@@ -317,9 +545,16 @@ public class Game implements ArrowStopListener, Listener {
      * @param message The message.
      */
     public void broadcast(Component message) {
-        for (final Player player : this.players.getAll()) {
-            player.sendMessage(message);
-        }
+        this.players.all().sendMessage(message);
+    }
+
+    /**
+     * Gets the current {@link State} of the game.
+     *
+     * @return The said state.
+     */
+    public State getState() {
+        return state;
     }
 
     /**
@@ -332,10 +567,12 @@ public class Game implements ArrowStopListener, Listener {
     }
 
     /**
-     * Unregisters the class from every event it listens to.
+     * Gets the {@link Arena} in which the game is played.
+     *
+     * @return The said arena.
      */
-    public void unregisterEvents() {
-        REGISTERED_EVENTS.forEach(handler -> handler.unregister(this));
+    public Arena getArena() {
+        return arena;
     }
 
     /**
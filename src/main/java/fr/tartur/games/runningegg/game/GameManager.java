@@ -3,6 +3,7 @@ package fr.tartur.games.runningegg.game;
 import fr.tartur.games.runningegg.Core;
 import fr.tartur.games.runningegg.api.events.GameEndEvent;
 import fr.tartur.games.runningegg.api.events.GameStartEvent;
+import fr.tartur.games.runningegg.config.Message;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -10,31 +11,51 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
- * Class which handles every {@link Game} start & termination.
+ * Class which handles every {@link Game} start & termination, in every {@link Arena} of the server.
+ * <p>
+ * On a region-threaded server, the games of different arenas end and players join or leave on different threads.
+ * Thus, every routing method is synchronized, since they all share the {@link MatchmakingQueue} and the
+ * {@link ArenaRegistry}, and the arena of each player can be read from any thread. A {@link Game} is never changed
+ * from these methods though: players are connected to or disconnected from it through the {@link TickWheel} of its
+ * arena, on the thread owning it.
  *
  * @see Game
+ * @see ArenaRegistry
  */
 public class GameManager implements Listener {
 
     private final Logger log;
     private final Core core;
-    private final WaitingRoom waitingRoom;
-    private Game game;
+    private final ArenaRegistry arenas;
+    private final MatchmakingQueue queue;
+    private final BorderTracker tracker;
+    private final TeleportService teleports;
+    private final Map<UUID, Arena> players;
 
     /**
      * Class constructor which needs the {@link Core} plugin instance to register game events, and the
-     * {@link WaitingRoom} to handle every player waiting for a new {@link Game} to start.
+     * {@link ArenaRegistry} to route every player to an {@link Arena} waiting for a new {@link Game} to start.
      *
      * @param core The main plugin instance.
-     * @param waitingRoom The said waiting room.
+     * @param arenas The said arena registry.
+     * @param tracker The tracker checking whether prays hit their arena border.
+     * @param teleports The service moving the players between arenas.
      */
-    public GameManager(Core core, WaitingRoom waitingRoom) {
+    public GameManager(Core core, ArenaRegistry arenas, BorderTracker tracker, TeleportService teleports) {
         this.log = core.getLogger();
         this.core = core;
-        this.waitingRoom = waitingRoom;
+        this.arenas = arenas;
+        this.queue = new MatchmakingQueue(arenas);
+        this.tracker = tracker;
+        this.teleports = teleports;
+        this.players = new ConcurrentHashMap<>();
     }
 
     /**
@@ -43,23 +64,27 @@ public class GameManager implements Listener {
      * @param event The event.
      */
     @EventHandler
-    public void onGameStart(GameStartEvent event) {
+    public synchronized void onGameStart(GameStartEvent event) {
+        final Arena arena = event.getArena();
         final Game.Data data = event.getGameData();
-        final List<Player> players = data.players();
+        final List<UUID> players = data.players();
         final List<Location> spawnPoints = data.settings().playerLocations();
 
         final int playerCount = players.size();
         final int diff = playerCount - spawnPoints.size();
 
         if (diff > 0) {
-            this.log.warning("Missing " + diff + " spawn points in config.yml to play with " + playerCount +
-                    " players");
+            this.log.warning("Missing " + diff + " spawn points in arena '" + arena.getName() + "' to play with " +
+                    playerCount + " players");
+            arena.unpin();
             return;
         }
 
-        this.game = new Game(core, data);
-        this.core.getServer().getPluginManager().registerEvents(this.game, this.core);
-        this.game.start();
+        final Game game = new Game(this.core, arena, data, this.tracker, this.teleports);
+
+        arena.setGame(game);
+        this.arenas.update(arena);
+        game.start();
     }
 
     /**
@@ -68,59 +93,190 @@ public class GameManager implements Listener {
      * @param event The event.
      */
     @EventHandler
-    public void onGameEnd(GameEndEvent event) {
+    public synchronized void onGameEnd(GameEndEvent event) {
         final Game game = event.getGame();
-        
-        game.unregisterEvents();
-        this.game = null;
-        
+        final Arena arena = game.getArena();
+
+        arena.unpin();
+        arena.setGame(null);
+        this.arenas.update(arena);
+
+        for (final Player player : game.getPlayers().getAll()) {
+            this.players.remove(player.getUniqueId());
+
+            if (!player.isOnline()) {
+                continue;
+            }
+
+            this.teleports.teleport(player, game.getData().settings().spinLocation(), target -> {
+                target.clearActivePotionEffects();
+                target.setGameMode(GameMode.ADVENTURE);
+                GamePlayers.unfreeze(target);
+            });
+
+            this.queue.add(player);
+        }
+
+        this.drain();
+
         for (final Player player : game.getPlayers().getAll()) {
-            player.clearActivePotionEffects();
-            player.teleport(game.getData().settings().spinLocation());
-            player.setGameMode(GameMode.ADVENTURE);
-            
-            this.waitingRoom.join(player);
+            if (this.queue.contains(player)) {
+                this.waitForArena(player);
+            }
         }
     }
 
     /**
-     * Checks whether the class {@link Game} is running.
+     * Checks whether a {@link Game} is running in any {@link Arena}.
      *
-     * @return {@code true} if the {@code Game} instance is not null, {@code false} otherwise.
+     * @return {@code true} if at least one game is running, {@code false} otherwise.
      */
     public boolean isGameRunning() {
-        return this.game != null;
+        return this.arenas.anyRunning().isPresent();
+    }
+
+    /**
+     * Gets the {@link Arena} the provided {@link Player} is in.
+     *
+     * @param player The player.
+     * @return An {@code Optional} wrapping the said arena, or {@link Optional#empty()} if the player is in none.
+     */
+    public Optional<Arena> getArena(Player player) {
+        return Optional.ofNullable(this.players.get(player.getUniqueId()));
     }
 
     /**
-     * Puts the provided player in the waiting room.
+     * Puts the provided player in the matchmaking queue, which sends it to the waiting room of an open {@link Arena}.
+     * If every arena is busy, the player spectates a running game until one opens.
      *
      * @param player The player waiting for a new game to start.
      */
-    public void join(Player player) {
-        if (!this.isGameRunning()) {
-            player.setGameMode(GameMode.ADVENTURE);
-            player.getInventory().clear();
-            player.clearActivePotionEffects();
-            player.setLevel(0);
-            player.setExp(0);
-            this.waitingRoom.join(player);
-        } else {
-            this.game.connect(player);
+    public synchronized void join(Player player) {
+        player.setGameMode(GameMode.ADVENTURE);
+        player.getInventory().clear();
+        player.clearActivePotionEffects();
+        player.setLevel(0);
+        player.setExp(0);
+
+        this.route(player);
+    }
+
+    /**
+     * Puts the provided player in the matchmaking queue, and makes it spectate a running {@link Game} if no
+     * {@link Arena} can receive it yet.
+     *
+     * @param player The player.
+     */
+    private synchronized void route(Player player) {
+        this.queue.add(player);
+        this.drain();
+
+        if (this.queue.contains(player)) {
+            this.waitForArena(player);
         }
     }
 
     /**
-     * Removes the provided player from the waiting room.
+     * Removes the provided player from its {@link Arena}, either from its waiting room or from its running
+     * {@link Game}.
      *
      * @param player The leaving player.
      */
-    public void leave(Player player) {
-        if (this.isGameRunning() && this.game.isPresent(player)) {
-            this.game.disconnect(player);
+    public synchronized void leave(Player player) {
+        this.queue.remove(player);
+
+        final Arena arena = this.players.remove(player.getUniqueId());
+
+        if (arena == null) {
+            return;
+        }
+
+        if (arena.getWaitingRoom().contains(player)) {
+            arena.getWaitingRoom().leave(player);
+            this.arenas.update(arena);
+            this.drain();
         } else {
-            this.waitingRoom.leave(player);
+            this.disconnect(arena, arena.getGame(), player);
         }
     }
 
+    /**
+     * Assigns as many queued players as possible to the open arenas.
+     */
+    private void drain() {
+        this.queue.drain(this::assign);
+    }
+
+    /**
+     * Makes the provided queued player spectate a running {@link Game} until an {@link Arena} opens, or tells it to
+     * wait if there is none.
+     *
+     * @param player The queued player.
+     */
+    private void waitForArena(Player player) {
+        final Optional<Arena> running = this.arenas.anyRunning();
+
+        if (running.isPresent()) {
+            this.players.put(player.getUniqueId(), running.get());
+            this.connect(running.get(), running.get().getGame(), player);
+        } else {
+            player.sendMessage(this.core.getMessages().get(Message.ARENAS_FULL));
+        }
+    }
+
+    /**
+     * Sends the provided queued player to the waiting room of the given {@link Arena}, making it stop spectating its
+     * previous game if needed.
+     *
+     * @param player The queued player.
+     * @param arena The arena the player is assigned to.
+     */
+    private void assign(Player player, Arena arena) {
+        final Arena previous = this.players.put(player.getUniqueId(), arena);
+
+        if (previous != null) {
+            this.disconnect(previous, previous.getGame(), player);
+        }
+
+        arena.getWaitingRoom().join(player);
+    }
+
+    /**
+     * Makes the provided player spectate the given {@link Game}, on the thread owning its {@link Arena}. If the game
+     * has ended in the meantime, the player is routed again, unless it has left or been assigned elsewhere since.
+     *
+     * @param arena The arena of the game.
+     * @param game The game.
+     * @param player The player.
+     */
+    private void connect(Arena arena, Game game, Player player) {
+        arena.getWheel().schedule(0, () -> {
+            if (arena.getGame() == game) {
+                game.connect(player);
+            } else if (this.players.remove(player.getUniqueId(), arena)) {
+                this.route(player);
+            }
+        }, arena.getMeter());
+    }
+
+    /**
+     * Removes the provided player from the given {@link Game}, on the thread owning its {@link Arena}, if it is still
+     * in it by then.
+     *
+     * @param arena The arena of the game.
+     * @param game The game, or {@code null} if the arena is not running any.
+     * @param player The player.
+     */
+    private void disconnect(Arena arena, Game game, Player player) {
+        if (game == null) {
+            return;
+        }
+
+        arena.getWheel().schedule(0, () -> {
+            if (game.isPresent(player)) {
+                game.disconnect(player);
+            }
+        }, arena.getMeter());
+    }
+
 }
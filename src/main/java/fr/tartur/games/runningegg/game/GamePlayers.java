@@ -1,28 +1,77 @@
 package fr.tartur.games.runningegg.game;
 
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.format.TextDecoration;
-import net.kyori.adventure.text.minimessage.MiniMessage;
+import fr.tartur.games.runningegg.config.Message;
+import fr.tartur.games.runningegg.config.MessageCatalog;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.title.Title;
 import org.bukkit.*;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
-import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 /**
  * Class which handles every player interaction during the game progress.
+ * <p>
+ * Players are indexed by {@link GameRole} in buckets updated on every role change, so that checking or iterating the
+ * players of a role never builds any intermediate collection. The role of each player is keyed by its {@link UUID},
+ * while the buckets and the hunter hold the {@link Player} objects of the players in the game: {@link #remove(Player)}
+ * drops every one of them as soon as a player leaves. Each bucket is also exposed as a live {@link Audience}, so that a
+ * single call reaches a whole group of players.
+ * <p>
+ * Every {@link Title} and message sent to an audience comes already built from the {@link MessageCatalog}, so a
+ * broadcast never renders it again. The server still encodes one packet per recipient: components are translated for
+ * the locale of each player, and the API offers no way to send an already encoded packet to several players.
  */
 public class GamePlayers {
 
-    private final Map<Player, GameRole> roles;
+    private static final PotionEffect SPEED = new PotionEffect(PotionEffectType.SPEED,
+            PotionEffect.INFINITE_DURATION, 1);
+
+    private static final NamespacedKey FREEZE_KEY = new NamespacedKey("runningegg", "freeze");
+    private static final AttributeModifier FREEZE = new AttributeModifier(FREEZE_KEY, -1d,
+            AttributeModifier.Operation.MULTIPLY_SCALAR_1);
+    private static final List<Attribute> FROZEN_ATTRIBUTES = List.of(Attribute.MOVEMENT_SPEED,
+            Attribute.JUMP_STRENGTH);
+
+    private static final Sound HUNTER_SOUND = sound(org.bukkit.Sound.ENTITY_ENDER_DRAGON_GROWL);
+    private static final Sound PRAY_SOUND = sound(org.bukkit.Sound.ENTITY_CAT_AMBIENT);
+    private static final Sound ESCAPE_SOUND = sound(org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING);
+    private static final Sound LOSE_SOUND = sound(org.bukkit.Sound.ENTITY_BAT_DEATH);
+    private static final Sound VICTORY_SOUND = sound(org.bukkit.Sound.ENTITY_PLAYER_LEVELUP);
+    private static final Sound END_SOUND = sound(org.bukkit.Sound.ENTITY_WITHER_DEATH);
+
+    private final Map<UUID, GameRole> roles;
+    private final Set<Player> present;
+    private final Map<GameRole, Set<Player>> buckets;
+    private final Map<GameRole, Collection<Player>> views;
+    private final Set<Player> playing;
+    private final Collection<Player> playingView;
+    private final Collection<Player> allView;
+    private final Map<GameRole, Audience> audiences;
+    private final Audience playingAudience;
+    private final Audience allAudience;
     private final Random random;
+    private final TeleportService teleports;
+    private final MessageCatalog messages;
     private final Location middle;
     private final List<Location> spawnPoints;
     private Player hunter;
@@ -31,15 +80,40 @@ public class GamePlayers {
      * Class constructor, which laods many resources depending on the provided {@link Game.Data} instance.
      *
      * @param data The game data.
+     * @param teleports The service moving the players around the arena.
+     * @param messages The catalog of messages shown to the players.
      */
-    public GamePlayers(Game.Data data) {
+    public GamePlayers(Game.Data data, TeleportService teleports, MessageCatalog messages) {
         this.roles = new HashMap<>();
+        this.present = new LinkedHashSet<>();
+        this.buckets = new EnumMap<>(GameRole.class);
+        this.views = new EnumMap<>(GameRole.class);
+        this.playing = new LinkedHashSet<>();
+        this.playingView = Collections.unmodifiableSet(this.playing);
+        this.allView = Collections.unmodifiableSet(this.present);
+        this.audiences = new EnumMap<>(GameRole.class);
+        this.playingAudience = Audience.audience(this.playingView);
+        this.allAudience = Audience.audience(this.allView);
         this.random = new Random();
+        this.teleports = teleports;
+        this.messages = messages;
         this.middle = data.settings().spinLocation();
         this.spawnPoints = data.settings().playerLocations();
+
+        for (final GameRole role : GameRole.values()) {
+            final Set<Player> bucket = new LinkedHashSet<>();
+
+            this.buckets.put(role, bucket);
+            this.views.put(role, Collections.unmodifiableSet(bucket));
+            this.audiences.put(role, Audience.audience(this.views.get(role)));
+        }
         
-        for (final Player player : data.players()) {
-            this.roles.put(player, GameRole.WAITING);
+        for (final UUID id : data.players()) {
+            final Player player = Bukkit.getPlayer(id);
+
+            if (player != null) {
+                this.setRole(player, GameRole.WAITING);
+            }
         }
     }
     
@@ -48,11 +122,11 @@ public class GamePlayers {
      */
     public int defineRandomHunter() {
         final int index = this.pickRandomPlayer();
-        this.roles.put(this.hunter, GameRole.HUNTER);
+        this.setRole(this.hunter, GameRole.HUNTER);
 
-        for (final Player pray : this.getPlaying()) {
+        for (final Player pray : this.playing) {
             if (pray != this.hunter) {
-                this.roles.put(pray, GameRole.PRAY);
+                this.setRole(pray, GameRole.PRAY);
             }
         }
         
@@ -61,24 +135,36 @@ public class GamePlayers {
 
     /**
      * Teleports every player to different spawn points according to the {@link Game.Data}, heals & feeds them, clears
-     * their potion effects & inventory and sets their game mode to {@link GameMode#ADVENTURE}.
+     * their potion effects & inventory, sets their game mode to {@link GameMode#ADVENTURE} and freezes them until
+     * {@link #unfreeze()} is called. Since the players are prepared later on the thread owning them, they are only
+     * frozen if the given condition still holds at this time: otherwise, the game may have ended in the meantime and
+     * nothing would ever unfreeze them.
+     *
+     * @param freezing The condition checked before freezing each player.
+     * @return A future completed once every player has been teleported.
      */
-    public void reset() {
-        final List<Player> players = this.getPlaying();
+    public CompletableFuture<Void> reset(BooleanSupplier freezing) {
+        final Map<Player, Location> destinations = new HashMap<>();
+        int i = 0;
+
+        for (final Player player : this.playing) {
+            final Location location = this.spawnPoints.get(i++);
 
-        for (int i = 0; i < players.size(); ++i) {
-            final Player player = players.get(i);
-            final Location location = this.spawnPoints.get(i);
+            this.setRole(player, GameRole.WAITING);
+            destinations.put(player, location);
+        }
 
+        return this.teleports.teleportAll(destinations, player -> {
             player.setHealth(20);
             player.setFoodLevel(20);
             player.clearActivePotionEffects();
             player.getInventory().clear();
             player.setGameMode(GameMode.ADVENTURE);
-            this.roles.put(player, GameRole.WAITING);
 
-            player.teleport(location);
-        }
+            if (freezing.getAsBoolean()) {
+                freeze(player);
+            }
+        });
     }
 
     /**
@@ -87,33 +173,30 @@ public class GamePlayers {
      * {@link PotionEffect#INFINITE_DURATION} is applied to all players with the role {@link GameRole#PRAY}.
      */
     public void alert() {
-        final PotionEffect speed = new PotionEffect(PotionEffectType.SPEED, PotionEffect.INFINITE_DURATION, 1);
-        final Title.Times duration = Title.Times.times(
-                Duration.ofMillis(250L),
-                Duration.ofMillis(1500L),
-                Duration.ofMillis(250L)
-        );
-
-        this.playSound(this.hunter, Sound.ENTITY_ENDER_DRAGON_GROWL);
-        this.hunter.showTitle(Title.title(
-                Component.text("CHASSEUR", NamedTextColor.RED),
-                Component.text("Attrapez l'oeuf et tirez sur vos proies !", NamedTextColor.DARK_RED),
-                duration
-        ));
+        final Audience prays = this.audiences.get(GameRole.PRAY);
+
+        if (this.hunter != null) {
+            this.hunter.playSound(HUNTER_SOUND);
+            this.hunter.showTitle(this.messages.hunter());
+        }
+
+        prays.playSound(PRAY_SOUND);
+        prays.showTitle(this.messages.pray());
         
-        for (final Player pray : this.getPrays()) {
-            this.playSound(pray, Sound.ENTITY_CAT_AMBIENT);
-            
-            pray.showTitle(Title.title(
-                    Component.text("PROIE", NamedTextColor.AQUA),
-                    Component.text("Fuyez sans vous faire toucher !", NamedTextColor.DARK_AQUA),
-                    duration
-            ));
-
-            pray.addPotionEffect(speed);
+        for (final Player pray : this.buckets.get(GameRole.PRAY)) {
+            pray.addPotionEffect(SPEED);
         }
     }
     
+    /**
+     * Lets every playing player move again after a call to {@link #reset()}.
+     */
+    public void unfreeze() {
+        for (final Player player : this.playing) {
+            unfreeze(player);
+        }
+    }
+
     /**
      * Marks the player as escaped, which defines its role as {@link GameRole#WAITING} and sets its game mode to
      * {@link GameMode#SPECTATOR}.
@@ -121,15 +204,12 @@ public class GamePlayers {
      * @param player The escaped player.
      */
     public void escape(Player player) {
-        this.roles.put(player, GameRole.WAITING);
+        this.setRole(player, GameRole.WAITING);
         
-        player.teleport(this.middle);
+        this.teleports.teleport(player, this.middle);
         player.setGameMode(GameMode.SPECTATOR);
-        this.playSound(player, Sound.BLOCK_NOTE_BLOCK_PLING);
-        player.showTitle(Title.title(
-                Component.text("OUF !", NamedTextColor.GREEN),
-                Component.text("Vous vous êtes enfui... pour le moment.", NamedTextColor.GRAY)
-        ));
+        player.playSound(ESCAPE_SOUND);
+        player.showTitle(this.messages.escape());
     }
 
     /**
@@ -140,13 +220,9 @@ public class GamePlayers {
     public void lose(Player player) {
         this.setSpectator(player);
         
-        player.showTitle(Title.title(
-                Component.text("PERDU", NamedTextColor.RED),
-                Component.text("Vous avez été touché par le chasseur !", NamedTextColor.DARK_RED)
-        ));
-        player.sendMessage(Component.text("Vous avez perdu, retentez votre chance la prochaine " +
-                "fois ! Vous pouvez également observer la partie.", NamedTextColor.GOLD));
-        this.playSound(player, Sound.ENTITY_BAT_DEATH);
+        player.showTitle(this.messages.lose());
+        player.sendMessage(this.messages.get(Message.LOSE_MESSAGE));
+        player.playSound(LOSE_SOUND);
     }
 
     /**
@@ -157,29 +233,20 @@ public class GamePlayers {
      */
     public void win(Player winner) {
         winner.setGameMode(GameMode.ADVENTURE);
-        this.playSound(winner, Sound.ENTITY_PLAYER_LEVELUP);
-        winner.showTitle(Title.title(
-                Component.text("VICTOIRE", NamedTextColor.GOLD, TextDecoration.BOLD),
-                Component.text("Vous êtes le meilleur !", NamedTextColor.GREEN)
-        ));
-        winner.sendMessage(Component.text("Félicitations, vous avez été le meilleur joueur de la " +
-                        "partie ! Rejouez tant que vous le souhaitez pour, une fois de plus, montrer votre talent !",
-                NamedTextColor.GREEN));
+        winner.playSound(VICTORY_SOUND);
+        winner.showTitle(this.messages.victory());
+        winner.sendMessage(this.messages.get(Message.VICTORY_MESSAGE));
         
-        for (final Player gamePlayer : this.getAll()) {
-            gamePlayer.teleport(this.middle);
-            this.playSound(gamePlayer, Sound.ENTITY_WITHER_DEATH);
+        for (final Player gamePlayer : this.present) {
+            this.teleports.teleport(gamePlayer, this.middle);
 
             if (gamePlayer != winner) {
                 this.setSpectator(gamePlayer);
-                gamePlayer.showTitle(Title.title(
-                        MiniMessage.miniMessage().deserialize("<rainbow>FIN DE PARTIE")
-                                .decorate(TextDecoration.BOLD), 
-                        Component.text(winner.getName(), NamedTextColor.RED)
-                                .append(Component.text(" a gagné !", NamedTextColor.AQUA))
-                ));
             }
         }
+
+        this.allAudience.playSound(END_SOUND);
+        this.audiences.get(GameRole.SPECTATOR).showTitle(this.messages.end(winner.getName()));
     }
 
     /**
@@ -188,39 +255,154 @@ public class GamePlayers {
      * @param player The player.
      */
     public void setSpectator(Player player) {
+        unfreeze(player);
         player.setGameMode(GameMode.SPECTATOR);
-        this.roles.put(player, GameRole.SPECTATOR);
+        this.setRole(player, GameRole.SPECTATOR);
+    }
+    
+    /**
+     * Adds the given player to the game as a {@link GameRole#SPECTATOR}. Unlike {@link #setSpectator(Player)}, the
+     * player itself is left untouched, since it may be owned by another thread than the game.
+     *
+     * @param player The player.
+     */
+    public void addSpectator(Player player) {
+        this.setRole(player, GameRole.SPECTATOR);
+    }
+
+    /**
+     * Removes the given player from the game, dropping every reference to it. The player itself is left untouched,
+     * since it may be owned by another thread than the game.
+     *
+     * @param player The leaving player.
+     */
+    public void remove(Player player) {
+        final GameRole role = this.roles.remove(player.getUniqueId());
+
+        if (role == null) {
+            return;
+        }
+
+        this.buckets.get(role).remove(player);
+        this.playing.remove(player);
+        this.present.remove(player);
+
+        if (this.hunter != null && this.hunter.getUniqueId().equals(player.getUniqueId())) {
+            this.hunter = null;
+        }
+    }
+
+    /**
+     * Checks if the given {@link Player} is in the game, whatever its {@link GameRole} is.
+     *
+     * @param player The player.
+     * @return {@code true} if the player is in the game, {@code false} otherwise.
+     */
+    public boolean contains(Player player) {
+        return this.roles.containsKey(player.getUniqueId());
     }
     
     /**
-     * Builds a {@link List<Player>} with the role {@link GameRole#PRAY}.
+     * Gets the players with the role {@link GameRole#PRAY}.
      *
-     * @return A list of players matching the pray role.
+     * @return A read-only live view of the players matching the pray role.
      */
-    public List<Player> getPrays() {
-        return this.getAll().stream()
-                .filter(player -> this.hasRole(player, GameRole.PRAY))
-                .toList();
+    public Collection<Player> getPrays() {
+        return this.views.get(GameRole.PRAY);
     }
 
     /**
-     * Builds a {@link List<Player>} composed by players which DO NOT have the role {@link GameRole#SPECTATOR}.
+     * Gets the players which DO NOT have the role {@link GameRole#SPECTATOR}.
      *
-     * @return A list of players which are not spectators.
+     * @return A read-only live view of the players which are not spectators.
      */
-    public List<Player> getPlaying() {
-        return this.getAll().stream()
-                .filter(player -> !this.hasRole(player, GameRole.SPECTATOR))
-                .toList();
+    public Collection<Player> getPlaying() {
+        return this.playingView;
     }
 
     /**
      * Returns every {@link Player} of the game, without {@link GameRole} distinction.
      *
-     * @return A {@code List<Player>} of every player watching or participating in the game.
+     * @return A read-only live view of every player watching or participating in the game.
+     */
+    public Collection<Player> getAll() {
+        return this.allView;
+    }
+
+    /**
+     * Gets the {@link Audience} of the players with the provided {@link GameRole}.
+     *
+     * @param role The role.
+     * @return A live audience of the players matching the role.
+     */
+    public Audience audience(GameRole role) {
+        return this.audiences.get(role);
+    }
+
+    /**
+     * Gets the {@link Audience} of the players which DO NOT have the role {@link GameRole#SPECTATOR}.
+     *
+     * @return A live audience of the players which are not spectators.
+     */
+    public Audience playing() {
+        return this.playingAudience;
+    }
+
+    /**
+     * Gets the {@link Audience} of every {@link Player} of the game, without {@link GameRole} distinction.
+     *
+     * @return A live audience of every player watching or participating in the game.
+     */
+    public Audience all() {
+        return this.allAudience;
+    }
+
+    /**
+     * Runs the given action for every {@link Player} with the provided {@link GameRole}.
+     *
+     * @param role The role.
+     * @param action The action to run.
+     */
+    public void forEach(GameRole role, Consumer<Player> action) {
+        this.buckets.get(role).forEach(action);
+    }
+
+    /**
+     * Checks if the given {@link Player} is in the game and is not a {@link GameRole#SPECTATOR}.
+     *
+     * @param player The player.
+     * @return {@code true} if the player is playing, {@code false} otherwise.
+     */
+    public boolean isPlaying(Player player) {
+        return this.playing.contains(player);
+    }
+
+    /**
+     * Counts the players with the provided {@link GameRole}.
+     *
+     * @param role The role.
+     * @return The said amount of players.
      */
-    public List<Player> getAll() {
-        return this.roles.keySet().stream().toList();
+    public int count(GameRole role) {
+        return this.buckets.get(role).size();
+    }
+
+    /**
+     * Counts the players with the role {@link GameRole#PRAY}.
+     *
+     * @return The said amount of players.
+     */
+    public int countPrays() {
+        return this.buckets.get(GameRole.PRAY).size();
+    }
+
+    /**
+     * Counts the players which DO NOT have the role {@link GameRole#SPECTATOR}.
+     *
+     * @return The said amount of players.
+     */
+    public int countPlaying() {
+        return this.playing.size();
     }
 
     /**
@@ -231,30 +413,94 @@ public class GamePlayers {
      * @return {@code true} if the player actually has the role, {@code false} otherwise.
      */
     public boolean hasRole(Player player, GameRole role) {
-        return this.roles.get(player) == role;
+        return this.roles.get(player.getUniqueId()) == role;
     }
 
     /**
-     * Picks a random player from the {@code List<Player>} returned by the {@link this#getPlaying()} method.
+     * Picks a random player from the players returned by the {@link this#getPlaying()} method.
      *
-     * @return A randomly-chosen player.
+     * @return The index of the randomly-chosen player.
      */
     private int pickRandomPlayer() {
-        final List<Player> players = this.getPlaying();
-        final int index = this.random.nextInt(players.size());
-        
-        this.hunter = players.get(index);
+        final int index = this.random.nextInt(this.playing.size());
+        final Iterator<Player> iterator = this.playing.iterator();
+
+        for (int i = 0; i < index; ++i) {
+            iterator.next();
+        }
+
+        this.hunter = iterator.next();
         return index;
     }
 
     /**
-     * Plays the provided {@link Sound} to the given {@link Player} at volume {@code 1} and pitch {@code 1}.
+     * Gives the provided {@link GameRole} to the given {@link Player}, moving it to the matching bucket.
+     *
+     * @param player The player.
+     * @param role The new role.
+     */
+    private void setRole(Player player, GameRole role) {
+        final GameRole previous = this.roles.put(player.getUniqueId(), role);
+
+        if (previous == role) {
+            return;
+        }
+
+        if (previous == null) {
+            this.present.add(player);
+        } else {
+            this.buckets.get(previous).remove(player);
+        }
+
+        this.buckets.get(role).add(player);
+
+        if (role == GameRole.SPECTATOR) {
+            this.playing.remove(player);
+        } else {
+            this.playing.add(player);
+        }
+    }
+
+    /**
+     * Prevents the provided {@link Player} from walking and jumping, by cancelling its movement speed and jump strength
+     * with a transient {@link AttributeModifier}. Unlike cancelling its moves, the player can still look around, and
+     * no move event is ever handled for it.
+     *
+     * @param player The player.
+     */
+    private static void freeze(Player player) {
+        for (final Attribute attribute : FROZEN_ATTRIBUTES) {
+            final AttributeInstance instance = player.getAttribute(attribute);
+
+            if (instance != null && instance.getModifier(FREEZE_KEY) == null) {
+                instance.addTransientModifier(FREEZE);
+            }
+        }
+    }
+
+    /**
+     * Removes the {@link AttributeModifier} added to the provided {@link Player} by {@link #freeze(Player)}, if any.
+     *
+     * @param player The player.
+     */
+    static void unfreeze(Player player) {
+        for (final Attribute attribute : FROZEN_ATTRIBUTES) {
+            final AttributeInstance instance = player.getAttribute(attribute);
+
+            if (instance != null) {
+                instance.removeModifier(FREEZE_KEY);
+            }
+        }
+    }
+
+    /**
+     * Builds the {@link Sound} of the given type, played at volume {@code 1} and pitch {@code 1}.
      *
-     * @param player The player to play the sound to.
-     * @param sound The sound to play.
+     * @param type The sound type.
+     * @return The said sound.
      */
-    private void playSound(Player player, Sound sound) {
-        player.playSound(player.getLocation(), sound, 1f, 1f);
+    private static Sound sound(org.bukkit.Sound type) {
+        return Sound.sound(type, Sound.Source.MASTER, 1f, 1f);
     }
     
 }
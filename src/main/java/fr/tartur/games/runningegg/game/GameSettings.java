@@ -1,12 +1,16 @@
 package fr.tartur.games.runningegg.game;
 
 import fr.tartur.games.runningegg.Core;
+import fr.tartur.games.runningegg.config.ConfigStore;
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -17,60 +21,198 @@ import java.util.logging.Logger;
  * @param spinLocation The spawn point of the {@link org.bukkit.entity.ItemFrame} containing the spinning arrow or the
  *                     throwable egg.
  * @param minPlayers The minimum amount of players needed to start a game.
+ * @param borderSize The length of each side of the arena border, centered on the spin location.
+ * @param spinEasing The delays (in ticks) between two steps of the arrow spinning animation, one for each turn.
+ * @param spinSound Whether a sound is played on each step of the arrow spinning animation.
+ * @param spinRender The way the spinning arrow is shown.
  *
- * @see GameSettings#loadConfiguration(Core)
+ * @see GameSettings#loadArenas(Core)
  */
-public record GameSettings(List<Location> playerLocations, Location spinLocation, int minPlayers) {
+public record GameSettings(List<Location> playerLocations, Location spinLocation, int minPlayers,
+                           double borderSize, List<Integer> spinEasing, boolean spinSound,
+                           SpinRender spinRender) {
 
     /**
-     * Loads a new {@code GameSettings} instance wrapped in a {@link Optional} if the plugin's {@code config.yml} file
-     * was correctly formed, or {@link Optional#empty()} if any of the {@link ConfigurationSection} is missing or empty.
+     * Name of the arena in which the legacy root {@code spawn_points} section, written before arenas existed, is moved.
+     */
+    public static final String DEFAULT_ARENA = "default";
+
+    /**
+     * Length of each side of an arena border when none is written in the plugin's {@code config.yml} file.
+     */
+    public static final double DEFAULT_BORDER_SIZE = 50d;
+
+    /**
+     * Moves every spawn point of the legacy root {@code spawn_points} section of the plugin's {@code config.yml} file to
+     * the {@link #DEFAULT_ARENA}, and removes the legacy section. A spawn point already defined in this arena with the
+     * same label is kept, so that a spawn point set with the command is never overwritten. The moved spawn points are
+     * written back to the file by the provided {@link ConfigStore}.
      *
      * @param core The main plugin instance used to read its {@code config.yml} file and log messages in the console.
+     * @param store The store writing the configuration changes.
+     */
+    public static void migrateLegacySpawnPoints(Core core, ConfigStore store) {
+        final ConfigurationSection legacy = core.getConfig().getConfigurationSection("spawn_points");
+
+        if (legacy == null) {
+            return;
+        }
+
+        final String path = "arenas." + DEFAULT_ARENA + ".spawn_points.";
+        int moved = 0;
+
+        for (final String label : legacy.getKeys(false)) {
+            final Location location = legacy.getLocation(label);
+
+            if (location != null && store.getLocation(path + label) == null) {
+                store.set(path + label, location);
+                ++moved;
+            }
+        }
+
+        store.set("spawn_points", null);
+        core.getLogger().info("Moved " + moved + " legacy spawn points to the '" + DEFAULT_ARENA + "' arena.");
+    }
+
+    /**
+     * Loads every arena written in the {@code arenas} section of the plugin's {@code config.yml} file. Malformed
+     * arenas are logged and skipped. The legacy root {@code spawn_points} section must have been moved beforehand.
+     *
+     * @see #migrateLegacySpawnPoints(Core, ConfigStore)
+     *
+     * @param core The main plugin instance used to read its {@code config.yml} file and log messages in the console.
+     * @return A {@code Map} associating each correctly formed arena name to its {@code GameSettings}, in the order
+     * they were written.
+     */
+    public static Map<String, GameSettings> loadArenas(Core core) {
+        final FileConfiguration configuration = core.getConfig();
+        final Map<String, GameSettings> arenas = new LinkedHashMap<>();
+        final int minPlayers = configuration.getInt("min_players");
+        final double borderSize = configuration.getDouble("border_size", DEFAULT_BORDER_SIZE);
+        final List<Integer> spinEasing = configuration.contains("spin_easing")
+                ? configuration.getIntegerList("spin_easing")
+                : SpinSchedule.DEFAULT_EASING;
+        final boolean spinSound = configuration.getBoolean("spin_sound", true);
+        final String spinRender = configuration.getString("spin_render", SpinRender.FRAME.name());
+        final ConfigurationSection section = configuration.getConfigurationSection("arenas");
+
+        if (section == null) {
+            return arenas;
+        }
+
+        for (final String name : section.getKeys(false)) {
+            final ConfigurationSection arena = section.getConfigurationSection(name);
+
+            if (arena != null) {
+                loadConfiguration(core, name, arena, arena.getInt("min_players", minPlayers),
+                        arena.getDouble("border_size", borderSize),
+                        arena.contains("spin_easing") ? arena.getIntegerList("spin_easing") : spinEasing,
+                        arena.getBoolean("spin_sound", spinSound),
+                        arena.getString("spin_render", spinRender))
+                        .ifPresent(settings -> arenas.put(name, settings));
+            }
+        }
+
+        return arenas;
+    }
+
+    /**
+     * Loads a new {@code GameSettings} instance wrapped in a {@link Optional} if the provided arena section was
+     * correctly formed, or {@link Optional#empty()} if any of the {@link ConfigurationSection} is missing or empty.
+     * Since the spinning arrow points at each player spawn point in turn, at most {@link SpinSchedule#POSITIONS} of
+     * them are kept.
+     *
+     * @param core The main plugin instance used to log messages in the console.
+     * @param name The name of the loaded arena.
+     * @param section The section containing the arena's {@code spawn_points}.
+     * @param minPlayers The minimum amount of players needed to start a game in this arena.
+     * @param borderSize The length of each side of the arena border.
+     * @param spinEasing The delays (in ticks) between two steps of the arrow spinning animation.
+     * @param spinSound Whether a sound is played on each step of the arrow spinning animation.
+     * @param spinRender The name of the {@link SpinRender} showing the spinning arrow.
      * @return An {@code Optional} wrapping the configuration-loaded {@code GameSettings} instance if the configuration
      * was correctly formed, or {@code Optional.empty()} otherwise.
      */
-    public static Optional<GameSettings> loadConfiguration(Core core) {
-        final FileConfiguration configuration = core.getConfig();
+    public static Optional<GameSettings> loadConfiguration(Core core, String name, ConfigurationSection section,
+                                                           int minPlayers, double borderSize,
+                                                           List<Integer> spinEasing, boolean spinSound,
+                                                           String spinRender) {
         final Logger log = core.getLogger();
-
-        final ConfigurationSection spawnPoints = configuration.getConfigurationSection("spawn_points");
+        final ConfigurationSection spawnPoints = section.getConfigurationSection("spawn_points");
 
         if (spawnPoints == null) {
-            log.severe("Could not find the 'spawn_points' section in config.yml.");
+            log.severe("Could not find the 'spawn_points' section of arena '" + name + "' in config.yml.");
             return Optional.empty();
         }
 
         final List<Location> playerLocations = new ArrayList<>();
 
         for (final String label : spawnPoints.getKeys(false)) {
-            if (!label.equals("spin")) {
-                playerLocations.add(spawnPoints.getLocation(label));
+            if (label.equals("spin")) {
+                continue;
+            }
+
+            final Location location = spawnPoints.getLocation(label);
+
+            if (location == null) {
+                log.warning("Spawn point '" + label + "' of arena '" + name + "' is malformed. Skipping it.");
+            } else {
+                playerLocations.add(location);
             }
         }
 
+        if (playerLocations.size() > SpinSchedule.POSITIONS) {
+            log.warning("Arena '" + name + "' has " + playerLocations.size() + " player spawn points, but the arrow " +
+                    "can only point at " + SpinSchedule.POSITIONS + " of them. Only the first " +
+                    SpinSchedule.POSITIONS + " are kept.");
+            playerLocations.subList(SpinSchedule.POSITIONS, playerLocations.size()).clear();
+        }
+
         if (playerLocations.isEmpty()) {
-            log.severe("No player spawn point has been set in config.yml. Cannot start any game.");
+            log.severe("No player spawn point has been set for arena '" + name + "' in config.yml. Cannot start " +
+                    "any game.");
             return Optional.empty();
         }
 
         final Location spinLocation = spawnPoints.getLocation("spin");
 
         if (spinLocation == null) {
-            log.severe("No spawn point has been provided for the spinning arrow in config.yml. Cannot " +
-                    "start any game.");
+            log.severe("No spawn point has been provided for the spinning arrow of arena '" + name + "' in " +
+                    "config.yml. Cannot start any game.");
             return Optional.empty();
         }
 
-        int minPlayers = configuration.getInt("min_players");
-
         if (minPlayers < 2) {
-            log.warning("Minimum players amount should at least be 2. Setting this value by default.");
+            log.warning("Minimum players amount of arena '" + name + "' should at least be 2. Setting this value " +
+                    "by default.");
             minPlayers = 2;
         }
 
-        log.info("Plugin configuration was successfully loaded!");
-        return Optional.of(new GameSettings(playerLocations, spinLocation, minPlayers));
+        if (borderSize <= 0d) {
+            log.warning("Border size of arena '" + name + "' should be positive. Setting it to " +
+                    DEFAULT_BORDER_SIZE + " by default.");
+            borderSize = DEFAULT_BORDER_SIZE;
+        }
+
+        if (spinEasing.isEmpty() || spinEasing.stream().anyMatch(delay -> delay < 1)) {
+            log.warning("Spin easing of arena '" + name + "' should only contain delays of at least 1 tick. " +
+                    "Setting it to " + SpinSchedule.DEFAULT_EASING + " by default.");
+            spinEasing = SpinSchedule.DEFAULT_EASING;
+        }
+
+        SpinRender render;
+
+        try {
+            render = SpinRender.valueOf(spinRender.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warning("Unknown spin render '" + spinRender + "' for arena '" + name + "'. Setting it to " +
+                    SpinRender.FRAME + " by default.");
+            render = SpinRender.FRAME;
+        }
+
+        log.info("Arena '" + name + "' was successfully loaded!");
+        return Optional.of(new GameSettings(List.copyOf(playerLocations), spinLocation, minPlayers, borderSize,
+                List.copyOf(spinEasing), spinSound, render));
     }
 
 }
@@ -0,0 +1,98 @@
+package fr.tartur.games.runningegg.game;
+
+import org.bukkit.entity.Player;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Class which queues the players waiting for an {@link Arena}, in their arrival order, and groups them into the open
+ * arenas of an {@link ArenaRegistry}.
+ * <p>
+ * Each open arena is filled up to its capacity before the next one is picked, starting with the most loaded one, so
+ * that a burst of players starts the countdown of several arenas at once instead of spreading them thinly. Adding,
+ * removing and assigning a player are constant-time operations.
+ */
+public class MatchmakingQueue {
+
+    private final ArenaRegistry arenas;
+    private final Map<UUID, Player> queue;
+
+    /**
+     * Class constructor, which needs the {@link ArenaRegistry} in which the queued players are grouped.
+     *
+     * @param arenas The said registry.
+     */
+    public MatchmakingQueue(ArenaRegistry arenas) {
+        this.arenas = arenas;
+        this.queue = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adds the provided {@link Player} at the end of the queue, if it is not already queued.
+     *
+     * @param player The player.
+     */
+    public void add(Player player) {
+        this.queue.putIfAbsent(player.getUniqueId(), player);
+    }
+
+    /**
+     * Removes the provided {@link Player} from the queue.
+     *
+     * @param player The player.
+     * @return {@code true} if the player was queued, {@code false} otherwise.
+     */
+    public boolean remove(Player player) {
+        return this.queue.remove(player.getUniqueId()) != null;
+    }
+
+    /**
+     * Checks whether the provided {@link Player} is queued.
+     *
+     * @param player The player.
+     * @return {@code true} if the player is queued, {@code false} otherwise.
+     */
+    public boolean contains(Player player) {
+        return this.queue.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * Gets the amount of queued players.
+     *
+     * @return The said amount.
+     */
+    public int size() {
+        return this.queue.size();
+    }
+
+    /**
+     * Assigns as many queued players as possible to the open arenas, in their arrival order. The given callback is
+     * run for every assigned player, and must make it join the arena waiting room without updating the registry,
+     * which is done once per filled arena.
+     *
+     * @param assign The callback run for every assigned player and its arena.
+     */
+    public void drain(BiConsumer<Player, Arena> assign) {
+        final Iterator<Player> iterator = this.queue.values().iterator();
+        Optional<Arena> open;
+
+        while (iterator.hasNext() && (open = this.arenas.mostLoaded()).isPresent()) {
+            final Arena arena = open.get();
+
+            while (iterator.hasNext() && arena.isOpen()) {
+                final Player player = iterator.next();
+
+                iterator.remove();
+                assign.accept(player, arena);
+            }
+
+            this.arenas.update(arena);
+        }
+    }
+
+}
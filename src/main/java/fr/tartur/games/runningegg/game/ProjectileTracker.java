@@ -0,0 +1,198 @@
+package fr.tartur.games.runningegg.game;
+
+import fr.tartur.games.runningegg.scheduler.TaskMeter;
+import fr.tartur.games.runningegg.scheduler.TickWheel;
+import fr.tartur.games.runningegg.scheduler.Timeout;
+import org.bukkit.Location;
+import org.bukkit.WorldBorder;
+import org.bukkit.entity.Projectile;
+import org.bukkit.util.Vector;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class which predicts when thrown projectiles cross their {@link WorldBorder}, instead of polling their position.
+ * <p>
+ * Since gravity only affects the vertical axis, the horizontal position of a thrown projectile after {@code n} ticks
+ * only depends on its launch velocity and the air drag: {@code x(n) = x + vx * (1 - DRAG^n) / (1 - DRAG)}. Thus, the
+ * tick at which it reaches the border is computed once on launch, and a single deadline is registered in the
+ * {@link TickWheel} of the shooter arena. When the deadline is reached, the real position is checked: if the
+ * projectile was deflected and did not cross the border, its new trajectory is computed again.
+ */
+public class ProjectileTracker {
+
+    /**
+     * Horizontal velocity factor applied by the server to a thrown projectile on every tick spent in the air.
+     */
+    private static final double DRAG = 0.99d;
+    private static final double LOG_DRAG = Math.log(DRAG);
+
+    private final Map<UUID, Flight> flights;
+
+    /**
+     * Class constructor, which starts without any tracked projectile. Since the arenas may tick on different threads,
+     * the flights are stored in a concurrent map.
+     */
+    public ProjectileTracker() {
+        this.flights = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts tracking the provided {@link Projectile}, which runs the given callback once it crosses the given
+     * {@link WorldBorder}. If it is already outside the border, the callback is run right away.
+     *
+     * @param projectile The thrown projectile.
+     * @param border The border the projectile has to stay in.
+     * @param wheel The wheel of the arena the projectile was thrown in, in which its deadline is registered.
+     * @param meter The meter of the said arena, accounting the cost of the deadline checks, or {@code null} if they are
+     * not measured.
+     * @param onCross The callback run when the projectile crosses the border.
+     */
+    public void track(Projectile projectile, WorldBorder border, TickWheel wheel, TaskMeter meter, Runnable onCross) {
+        final Location center = border.getCenter();
+        final double radius = border.getSize() / 2d;
+        final Flight flight = new Flight(projectile, wheel, meter, onCross,
+                center.getX() - radius, center.getX() + radius,
+                center.getZ() - radius, center.getZ() + radius);
+
+        this.untrack(projectile);
+        this.flights.put(projectile.getUniqueId(), flight);
+        this.predict(flight);
+    }
+
+    /**
+     * Stops tracking the provided {@link Projectile}, which is usually called when it hits something.
+     *
+     * @param projectile The projectile.
+     */
+    public void untrack(Projectile projectile) {
+        final Flight flight = this.flights.remove(projectile.getUniqueId());
+
+        if (flight != null && flight.timeout != null) {
+            flight.timeout.cancel();
+        }
+    }
+
+    /**
+     * Gets the amount of projectiles in flight.
+     *
+     * @return The said amount.
+     */
+    public int size() {
+        return this.flights.size();
+    }
+
+    /**
+     * Computes when the projectile of the given {@link Flight} will cross its border and registers the matching
+     * deadline, or runs its callback if it has already crossed it.
+     *
+     * @param flight The tracked flight.
+     */
+    private void predict(Flight flight) {
+        final Location location = flight.projectile.getLocation();
+        final Vector velocity = flight.projectile.getVelocity();
+        final double x = location.getX();
+        final double z = location.getZ();
+
+        if (x <= flight.minX || x >= flight.maxX || z <= flight.minZ || z >= flight.maxZ) {
+            this.flights.remove(flight.projectile.getUniqueId());
+            flight.onCross.run();
+            return;
+        }
+
+        final int ticks = Math.min(
+                ticksToTravel(velocity.getX() > 0 ? flight.maxX - x : x - flight.minX, Math.abs(velocity.getX())),
+                ticksToTravel(velocity.getZ() > 0 ? flight.maxZ - z : z - flight.minZ, Math.abs(velocity.getZ()))
+        );
+
+        if (ticks == Integer.MAX_VALUE) {
+            this.flights.remove(flight.projectile.getUniqueId());
+            return;
+        }
+
+        flight.timeout = flight.wheel.schedule(ticks, () -> this.onDeadline(flight), flight.meter);
+    }
+
+    /**
+     * Callback run when the projectile of the given {@link Flight} should have crossed its border.
+     *
+     * @param flight The tracked flight.
+     */
+    private void onDeadline(Flight flight) {
+        flight.timeout = null;
+
+        if (!flight.projectile.isValid()) {
+            this.flights.remove(flight.projectile.getUniqueId());
+            return;
+        }
+
+        this.predict(flight);
+    }
+
+    /**
+     * Computes the amount of ticks a projectile needs to travel the given distance on one axis, according to its speed
+     * on this axis and the air {@link #DRAG}.
+     *
+     * @param distance The distance to travel.
+     * @param speed The absolute speed of the projectile on this axis, in blocks per tick.
+     * @return The said amount of ticks, or {@link Integer#MAX_VALUE} if the projectile stops before.
+     */
+    private static int ticksToTravel(double distance, double speed) {
+        if (speed <= 0d) {
+            return Integer.MAX_VALUE;
+        }
+
+        final double remaining = 1d - distance * (1d - DRAG) / speed;
+
+        if (remaining <= 0d) {
+            return Integer.MAX_VALUE;
+        }
+
+        return (int) Math.ceil(Math.log(remaining) / LOG_DRAG);
+    }
+
+    /**
+     * Mutable entry of a tracked projectile, storing its border bounds and its pending deadline.
+     */
+    private static final class Flight {
+
+        private final Projectile projectile;
+        private final TickWheel wheel;
+        private final TaskMeter meter;
+        private final Runnable onCross;
+        private final double minX;
+        private final double maxX;
+        private final double minZ;
+        private final double maxZ;
+        private Timeout timeout;
+
+        /**
+         * Class constructor, which stores the tracked {@link Projectile} and its border bounds.
+         *
+         * @param projectile The tracked projectile.
+         * @param wheel The wheel in which its deadlines are registered.
+         * @param meter The meter accounting the cost of its deadline checks, or {@code null} if they are not measured.
+         * @param onCross The callback run when the projectile crosses its border.
+         * @param minX The lowest X coordinate of the border.
+         * @param maxX The highest X coordinate of the border.
+         * @param minZ The lowest Z coordinate of the border.
+         * @param maxZ The highest Z coordinate of the border.
+         */
+        private Flight(Projectile projectile, TickWheel wheel, TaskMeter meter, Runnable onCross, double minX,
+                       double maxX, double minZ, double maxZ) {
+            this.projectile = projectile;
+            this.wheel = wheel;
+            this.meter = meter;
+            this.onCross = onCross;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minZ = minZ;
+            this.maxZ = maxZ;
+            this.timeout = null;
+        }
+
+    }
+
+}
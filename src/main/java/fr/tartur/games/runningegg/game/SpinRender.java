@@ -0,0 +1,18 @@
+package fr.tartur.games.runningegg.game;
+
+/**
+ * Enumeration which represents the different ways of showing the spinning arrow of an {@link Arena}.
+ */
+public enum SpinRender {
+
+    /**
+     * The arrow is spun inside the real {@link org.bukkit.entity.ItemFrame}, seen by everyone around.
+     */
+    FRAME,
+
+    /**
+     * The arrow is spun by a temporary {@link org.bukkit.entity.ItemDisplay} only shown to the arena players.
+     */
+    DISPLAY
+
+}
@@ -0,0 +1,142 @@
+package fr.tartur.games.runningegg.game;
+
+import org.bukkit.Rotation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class representing the whole arrow spinning animation, computed once into a compact table of steps. Each step is
+ * packed in a single {@code int}, holding the tick at which it happens, the arrow {@link Rotation} index and whether a
+ * sound has to be played.
+ *
+ * @see ArrowRotator
+ */
+public final class SpinSchedule {
+
+    /**
+     * Amount of arrow positions in a full turn.
+     */
+    public static final int POSITIONS = 8;
+
+    /**
+     * Delays (in ticks) between two steps when none is written in the plugin's {@code config.yml} file.
+     */
+    public static final List<Integer> DEFAULT_EASING = List.of(2, 2, 2, 4, 8);
+
+    private static final Rotation[] ROTATIONS = Rotation.values();
+
+    private static final int SOUND_BIT = 1;
+    private static final int ROTATION_SHIFT = 1;
+    private static final int ROTATION_MASK = 0b111;
+    private static final int TICK_SHIFT = 4;
+
+    private final int[] steps;
+
+    /**
+     * Class constructor, which wraps already packed steps.
+     *
+     * @param steps The packed steps.
+     */
+    private SpinSchedule(int[] steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * Computes the spinning animation which stops when the arrow points at the given target. Each turn of the arrow
+     * uses the next delay of the given easing curve, and the last delay is used until the target is reached.
+     *
+     * @param easing The delays (in ticks) between two steps, one for each turn of the arrow.
+     * @param target The arrow position at which the animation stops, in {@code [0, POSITIONS[}.
+     * @param sound Whether a sound is played on each step.
+     * @return The computed schedule.
+     */
+    public static SpinSchedule compute(int[] easing, int target, boolean sound) {
+        final List<Integer> steps = new ArrayList<>();
+        final int last = easing.length - 1;
+        int tick = 0;
+        int position = 0;
+
+        for (int turn = 0; turn < last; ++turn) {
+            for (int i = 0; i < POSITIONS; ++i) {
+                steps.add(pack(tick, position, sound));
+                position = (position + 1) % POSITIONS;
+                tick += easing[turn];
+            }
+        }
+
+        while (true) {
+            steps.add(pack(tick, position, sound));
+
+            if (position == target) {
+                break;
+            }
+
+            position = (position + 1) % POSITIONS;
+            tick += easing[last];
+        }
+
+        return new SpinSchedule(steps.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Gets the amount of steps of the animation.
+     *
+     * @return The said amount.
+     */
+    public int length() {
+        return this.steps.length;
+    }
+
+    /**
+     * Gets the duration of the whole animation.
+     *
+     * @return The tick of the last step.
+     */
+    public int getDuration() {
+        return this.getTick(this.steps.length - 1);
+    }
+
+    /**
+     * Gets the tick at which the given step happens, relatively to the start of the animation.
+     *
+     * @param step The step index.
+     * @return The said tick.
+     */
+    public int getTick(int step) {
+        return this.steps[step] >>> TICK_SHIFT;
+    }
+
+    /**
+     * Gets the {@link Rotation} of the arrow at the given step.
+     *
+     * @param step The step index.
+     * @return The said rotation.
+     */
+    public Rotation getRotation(int step) {
+        return ROTATIONS[(this.steps[step] >>> ROTATION_SHIFT) & ROTATION_MASK];
+    }
+
+    /**
+     * Checks whether a sound has to be played at the given step.
+     *
+     * @param step The step index.
+     * @return {@code true} if a sound has to be played, {@code false} otherwise.
+     */
+    public boolean playsSound(int step) {
+        return (this.steps[step] & SOUND_BIT) != 0;
+    }
+
+    /**
+     * Packs a step in a single {@code int}.
+     *
+     * @param tick The tick at which the step happens.
+     * @param position The arrow position.
+     * @param sound Whether a sound is played.
+     * @return The packed step.
+     */
+    private static int pack(int tick, int position, boolean sound) {
+        return tick << TICK_SHIFT | position << ROTATION_SHIFT | (sound ? SOUND_BIT : 0);
+    }
+
+}
@@ -0,0 +1,177 @@
+package fr.tartur.games.runningegg.game;
+
+import fr.tartur.games.runningegg.profiler.HandlerProfiler;
+import fr.tartur.games.runningegg.profiler.Histogram;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Class which teleports players without ever loading a chunk synchronously on the main thread. Every chunk is loaded
+ * with {@link World#getChunkAtAsync(int, int)} and every player is moved with {@link Player#teleportAsync(Location)},
+ * whose futures are completed on the main thread.
+ * <p>
+ * On a region-threaded server, a player can only be modified by the thread owning it. Thus, every teleportation is
+ * started from the entity scheduler of its player, along with the changes to apply to the player before it leaves.
+ */
+public class TeleportService {
+
+    private final Plugin plugin;
+    private final Logger log;
+    private final Histogram histogram;
+    private final LongAdder teleports;
+    private final LongAdder latency;
+
+    /**
+     * Class constructor, which needs the {@link Plugin} instance to schedule tasks on the players, and to report failed
+     * teleportations through its logger, and the {@link HandlerProfiler} measuring the tasks run on the players.
+     *
+     * @param plugin The main plugin instance.
+     * @param profiler The said profiler.
+     */
+    public TeleportService(Plugin plugin, HandlerProfiler profiler) {
+        this.plugin = plugin;
+        this.log = plugin.getLogger();
+        this.histogram = profiler.histogram(HandlerProfiler.GLOBAL, "task:TeleportService#teleport");
+        this.teleports = new LongAdder();
+        this.latency = new LongAdder();
+    }
+
+    /**
+     * Loads the chunks of every provided {@link Location}, each chunk being requested only once.
+     *
+     * @param locations The locations whose chunks have to be loaded.
+     * @return A future completed once every chunk is loaded.
+     */
+    public CompletableFuture<Void> preload(Collection<Location> locations) {
+        final Set<Long> requested = new HashSet<>();
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        for (final Location location : locations) {
+            final World world = location.getWorld();
+            final int x = location.getBlockX() >> 4;
+            final int z = location.getBlockZ() >> 4;
+
+            if (requested.add((long) x << 32 | (z & 0xFFFFFFFFL))) {
+                futures.add(world.getChunkAtAsync(x, z));
+            }
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Teleports the provided {@link Player} to the given {@link Location}, loading its chunk asynchronously if needed.
+     *
+     * @param player The player.
+     * @param location The destination.
+     * @return A future completed with {@code true} if the player was teleported, {@code false} otherwise.
+     */
+    public CompletableFuture<Boolean> teleport(Player player, Location location) {
+        return this.teleport(player, location, null);
+    }
+
+    /**
+     * Prepares the provided {@link Player} on the thread owning it, and then teleports it to the given
+     * {@link Location}, loading its chunk asynchronously if needed.
+     *
+     * @param player The player.
+     * @param location The destination.
+     * @param prepare The changes to apply to the player before it is teleported, or {@code null} if there are none.
+     * @return A future completed with {@code true} if the player was teleported, {@code false} otherwise.
+     */
+    public CompletableFuture<Boolean> teleport(Player player, Location location, Consumer<Player> prepare) {
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        final long start = System.nanoTime();
+
+        result.whenComplete((teleported, throwable) -> {
+            this.teleports.increment();
+            this.latency.add(System.nanoTime() - start);
+        });
+
+        final boolean scheduled = player.getScheduler().run(this.plugin, task -> {
+            final long taskStart = System.nanoTime();
+
+            try {
+                if (prepare != null) {
+                    prepare.accept(player);
+                }
+
+                player.teleportAsync(location).whenComplete((teleported, throwable) -> {
+                    if (throwable != null) {
+                        this.log.log(Level.WARNING, "Could not teleport " + player.getName() + ".", throwable);
+                        result.complete(false);
+                    } else {
+                        result.complete(teleported);
+                    }
+                });
+            } finally {
+                this.histogram.record(System.nanoTime() - taskStart);
+            }
+        }, () -> result.complete(false)) != null;
+
+        if (!scheduled) {
+            result.complete(false);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the amount of teleportations which have ended, successfully or not.
+     *
+     * @return The said amount.
+     */
+    public long getTeleports() {
+        return this.teleports.sum();
+    }
+
+    /**
+     * Gets the total time between the request and the end of every ended teleportation, including the time spent
+     * waiting for the thread owning the player and loading the destination chunk.
+     *
+     * @return The said time, in nanoseconds.
+     */
+    public long getLatency() {
+        return this.latency.sum();
+    }
+
+    /**
+     * Teleports every provided {@link Player} to its destination as a single batch.
+     *
+     * @param destinations The destination of each player.
+     * @return A future completed once every teleportation has ended, successfully or not.
+     */
+    public CompletableFuture<Void> teleportAll(Map<Player, Location> destinations) {
+        return this.teleportAll(destinations, null);
+    }
+
+    /**
+     * Prepares every provided {@link Player} on the thread owning it, and then teleports it to its destination as a
+     * single batch.
+     *
+     * @param destinations The destination of each player.
+     * @param prepare The changes to apply to each player before it is teleported, or {@code null} if there are none.
+     * @return A future completed once every teleportation has ended, successfully or not.
+     */
+    public CompletableFuture<Void> teleportAll(Map<Player, Location> destinations, Consumer<Player> prepare) {
+        final List<CompletableFuture<Boolean>> futures = new ArrayList<>(destinations.size());
+        destinations.forEach((player, location) -> futures.add(this.teleport(player, location, prepare)));
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+}
@@ -2,39 +2,47 @@ package fr.tartur.games.runningegg.game;
 
 import fr.tartur.games.runningegg.Core;
 import fr.tartur.games.runningegg.api.events.GameStartEvent;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.title.Title;
-import org.bukkit.Bukkit;
-import org.bukkit.Sound;
+import fr.tartur.games.runningegg.scheduler.Timeout;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.sound.Sound;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
- * Class which handles the players' entries and exits, and decides whether a new game can start.
+ * Class which handles the players' entries and exits of an {@link Arena}, and decides whether a new game can start.
+ * <p>
+ * Players join and leave from their own thread, while the countdown runs on the thread ticking the arena
+ * {@link fr.tartur.games.runningegg.scheduler.TickWheel}. Thus, the waiting players are stored in a synchronized map,
+ * and the countdown only ever works on a copy of them.
  */
 public class WaitingRoom {
 
-    private final List<Player> players;
+    private static final Sound COUNTDOWN_SOUND = Sound.sound(org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING,
+            Sound.Source.MASTER, 1.5f, 1f);
+
+    private final Map<UUID, Player> players;
     private final Core core;
-    private final GameSettings settings;
+    private final Arena arena;
 
-    private int task;
+    private volatile Timeout task;
 
     /**
      * Class constructor which needs the {@link Core} plugin instance to start a timer to alert player when the game
-     * will start. At the end, a {@link GameStartEvent} will be fired with the given {@link GameSettings}.
+     * will start. At the end, a {@link GameStartEvent} will be fired with the given {@link Arena}.
      *
      * @param core The main plugin instance.
-     * @param settings The game settings.
+     * @param arena The arena owning this waiting room.
      */
-    public WaitingRoom(Core core, GameSettings settings) {
+    public WaitingRoom(Core core, Arena arena) {
         this.core = core;
-        this.settings = settings;
-        this.players = new ArrayList<>();
-        this.task = -1;
+        this.arena = arena;
+        this.players = Collections.synchronizedMap(new LinkedHashMap<>());
+        this.task = null;
     }
 
     /**
@@ -43,7 +51,7 @@ public class WaitingRoom {
      * @param player The new player.
      */
     public void join(Player player) {
-        this.players.add(player);
+        this.players.put(player.getUniqueId(), player);
 
         if (this.isStartable()) {
             this.startScheduler();
@@ -51,60 +59,90 @@ public class WaitingRoom {
     }
 
     /**
-     * Removes the provided {@link Player} from the list of waiting players.
+     * Removes the provided {@link Player} from the list of waiting players. The running countdown is only stopped if
+     * not enough players are left to start a game, so that it never restarts from the beginning otherwise.
      *
      * @param player The leaving player.
      */
     public void leave(Player player) {
-        this.players.remove(player);
+        this.players.remove(player.getUniqueId());
 
-        if (!this.isStartable()) {
+        if (this.players.size() < this.arena.getSettings().minPlayers() && this.task != null) {
             this.stopScheduler();
+            this.arena.unpin();
         }
     }
 
     /**
-     * Starts the scheduler which will alert every player that a new game will start soon.
+     * Checks whether the provided {@link Player} is waiting in this room.
+     *
+     * @param player The player.
+     * @return {@code true} if the player is waiting, {@code false} otherwise.
+     */
+    public boolean contains(Player player) {
+        return this.players.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * Gets the amount of waiting players.
+     *
+     * @return The said amount.
+     */
+    public int size() {
+        return this.players.size();
+    }
+
+    /**
+     * Starts the scheduler which will alert every player that a new game will start soon, and pins the arena chunks
+     * until the game ends.
      */
     private void startScheduler() {
-        this.task = Bukkit.getScheduler().scheduleSyncRepeatingTask(this.core, new Runnable() {
+        this.arena.pin();
+        this.task = this.arena.getWheel().repeat(1, 20, new Runnable() {
             private int timer = 30;
-            
+
             @Override
             public void run() {
-                for (final Player player : players) {
-                    player.setExp((float) timer / 30f);
-                    player.setLevel(timer);
-
-                    switch (timer) {
-                        case 30, 20, 15, 10, 5, 4, 3, 2, 1 -> {
-                            player.showTitle(Title.title(
-                                    Component.text(this.timer + "s", NamedTextColor.GOLD),
-                                    Component.text("La partie va commencer !", NamedTextColor.RED)
-                            ));
-
-                            player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 1.5f, 1f);
-                        }
+                final int remaining = timer;
+                final List<Player> waiting;
+
+                synchronized (players) {
+                    waiting = List.copyOf(players.values());
+                }
+
+                final Audience audience = Audience.audience(waiting);
+
+                for (final Player player : waiting) {
+                    player.getScheduler().run(core, scheduled -> {
+                        player.setExp((float) remaining / 30f);
+                        player.setLevel(remaining);
+                    }, null);
+                }
+
+                switch (timer) {
+                    case 30, 20, 15, 10, 5, 4, 3, 2, 1 -> {
+                        audience.showTitle(core.getMessages().countdown(this.timer));
+                        audience.playSound(COUNTDOWN_SOUND);
                     }
                 }
 
                 if (timer == 0) {
-                    new GameStartEvent(players, settings).callEvent();
-                    reset();
+                    final List<UUID> starting = reset();
+                    new GameStartEvent(arena, starting).callEvent();
                 }
-                
+
                 --timer;
             }
-        }, 0L, 20L);
+        }, this.arena.getMeter());
     }
 
     /**
      * Stops the running scheduler, if it exists.
      */
     private void stopScheduler() {
-        if (this.task != -1) {
-            Bukkit.getScheduler().cancelTask(this.task);
-            this.task = -1;
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
         }
     }
 
@@ -112,18 +150,28 @@ public class WaitingRoom {
      * Checks whether a new game can be started.
      *
      * @return {@code true} if no running task was already running and if the amount of waiting players is greater or
-     * equal to the minimum amount provided in the class {@link GameSettings}, or {@code false} otherwise.
+     * equal to the minimum amount provided in the arena {@link GameSettings}, or {@code false} otherwise.
      */
     private boolean isStartable() {
-        return this.players.size() >= this.settings.minPlayers() && task == -1;
+        return this.players.size() >= this.arena.getSettings().minPlayers() && this.task == null;
     }
 
     /**
      * Stops the working scheduler and empties the list of waiting players.
+     *
+     * @return The {@link UUID} of every player which was waiting, in joining order.
      */
-    private void reset() {
+    private List<UUID> reset() {
+        final List<UUID> waiting;
+
         this.stopScheduler();
-        this.players.clear();
+
+        synchronized (this.players) {
+            waiting = List.copyOf(this.players.keySet());
+            this.players.clear();
+        }
+
+        return waiting;
     }
 
 }
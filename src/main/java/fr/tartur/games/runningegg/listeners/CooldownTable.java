@@ -0,0 +1,126 @@
+package fr.tartur.games.runningegg.listeners;
+
+import org.bukkit.event.Event;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class storing cooldowns keyed by an entity {@link UUID} and an {@link Event} type, each of them expiring at a given
+ * server tick. Thus, an entity in cooldown never prevents another entity's events from being called, and no task is
+ * needed to clear expired cooldowns.
+ * <p>
+ * Expired entries are swept lazily once the table has doubled in size since the last sweep, which keeps the memory
+ * bounded by the amount of entities with an active cooldown.
+ * <p>
+ * Each check and update of an entity cooldowns is done atomically, so the same entity firing the same event from two
+ * region threads at once is only let through once.
+ */
+public class CooldownTable {
+
+    private static final int MIN_SWEEP_THRESHOLD = 64;
+
+    private final Map<Class<? extends Event>, Integer> slots;
+    private final Map<UUID, int[]> expiries;
+    private final int duration;
+    private volatile int sweepThreshold;
+
+    /**
+     * Class constructor, which needs the cooldown duration and every {@link Event} type which can be put in cooldown.
+     *
+     * @param duration The cooldown duration, in ticks.
+     * @param types The event types handled by the table.
+     */
+    public CooldownTable(int duration, List<Class<? extends Event>> types) {
+        this.slots = new HashMap<>();
+        this.expiries = new ConcurrentHashMap<>();
+        this.duration = duration;
+        this.sweepThreshold = MIN_SWEEP_THRESHOLD;
+
+        for (int i = 0; i < types.size(); ++i) {
+            this.slots.put(types.get(i), i);
+        }
+    }
+
+    /**
+     * Puts the given entity in cooldown for the given {@link Event} type if it was not already.
+     *
+     * @param id The entity {@link UUID}.
+     * @param type The event type.
+     * @param tick The current server tick.
+     * @return {@code true} if the entity was not in cooldown (and now is), {@code false} otherwise.
+     * @throws IllegalArgumentException If the event type was not provided on class construction.
+     */
+    public boolean tryAcquire(UUID id, Class<? extends Event> type, int tick) {
+        final Integer slot = this.slots.get(type);
+
+        if (slot == null) {
+            throw new IllegalArgumentException("No cooldown slot registered for event " + type.getSimpleName());
+        }
+
+        if (!this.expiries.containsKey(id)) {
+            this.sweepIfNeeded(tick);
+        }
+
+        final boolean[] acquired = new boolean[1];
+
+        this.expiries.compute(id, (key, expiry) -> {
+            if (expiry == null) {
+                expiry = new int[this.slots.size()];
+            } else if (tick < expiry[slot]) {
+                return expiry;
+            }
+
+            expiry[slot] = tick + this.duration;
+            acquired[0] = true;
+            return expiry;
+        });
+
+        return acquired[0];
+    }
+
+    /**
+     * Removes every cooldown of the given entity.
+     *
+     * @param id The entity {@link UUID}.
+     */
+    public void remove(UUID id) {
+        this.expiries.remove(id);
+    }
+
+    /**
+     * Gets the amount of entities stored in the table.
+     *
+     * @return The said amount.
+     */
+    public int size() {
+        return this.expiries.size();
+    }
+
+    /**
+     * Removes every entity whose cooldowns have all expired, if the table has grown enough since the last sweep.
+     *
+     * @param tick The current server tick.
+     */
+    private void sweepIfNeeded(int tick) {
+        if (this.expiries.size() < this.sweepThreshold) {
+            return;
+        }
+
+        this.expiries.values().removeIf(expiry -> {
+            for (final int end : expiry) {
+                if (tick < end) {
+                    return false;
+                }
+            }
+
+            return true;
+        });
+
+        this.sweepThreshold = Math.max(MIN_SWEEP_THRESHOLD, this.expiries.size() * 2);
+    }
+
+}
@@ -4,8 +4,11 @@ import fr.tartur.games.runningegg.api.events.BlockHitByEggEvent;
 import fr.tartur.games.runningegg.api.events.EntityHitsWorldBorderEvent;
 import fr.tartur.games.runningegg.api.events.PlayerHitByEggEvent;
 import fr.tartur.games.runningegg.api.events.PlayerHitsWorldBorderEvent;
+import fr.tartur.games.runningegg.game.Arena;
+import fr.tartur.games.runningegg.game.BorderTracker;
+import fr.tartur.games.runningegg.game.GameManager;
+import fr.tartur.games.runningegg.game.ProjectileTracker;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.WorldBorder;
 import org.bukkit.entity.Egg;
 import org.bukkit.entity.Entity;
@@ -16,138 +19,132 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.event.entity.ProjectileLaunchEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.event.player.PlayerQuitEvent;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.Optional;
 
 /**
- * Class listening to any type of {@link Event} which needs to be handled once in a certain amount of time.
+ * Class listening to any type of {@link Event} which needs to be handled once in a certain amount of time by each
+ * involved entity.
  */
 public class DelayedEventListener implements Listener {
 
-    private final JavaPlugin plugin;
-    private final Set<Class<? extends Event>> cooldown;
-    
-    private int task;
+    /**
+     * Amount of ticks during which a same entity cannot trigger a same event again.
+     */
+    private static final int COOLDOWN = 10;
+
+    private final BorderTracker tracker;
+    private final ProjectileTracker projectiles;
+    private final GameManager manager;
+    private final CooldownTable cooldown;
 
     /**
-     * Class constructor, which needs a {@link JavaPlugin} instance for the delayed events.
+     * Class constructor, which needs a {@link BorderTracker} to know which moving players are hitting their arena
+     * border, a {@link ProjectileTracker} to know when thrown eggs cross it, and the {@link GameManager} to know the
+     * arena each egg was thrown in.
      * 
-     * @param plugin The main plugin instance.
+     * @param tracker The said border tracker.
+     * @param projectiles The said projectile tracker.
+     * @param manager The said game manager.
      */
-    public DelayedEventListener(JavaPlugin plugin) {
-        this.plugin = plugin;
-        this.cooldown = new HashSet<>();
+    public DelayedEventListener(BorderTracker tracker, ProjectileTracker projectiles, GameManager manager) {
+        this.tracker = tracker;
+        this.projectiles = projectiles;
+        this.manager = manager;
+        this.cooldown = new CooldownTable(COOLDOWN, List.of(
+                PlayerHitsWorldBorderEvent.class,
+                PlayerHitByEggEvent.class,
+                BlockHitByEggEvent.class
+        ));
     }
 
     /**
-     * Event callback triggered when a player is moving, just to know if it is touching the {@link WorldBorder}. If
-     * so, a {@link PlayerHitsWorldBorderEvent} is fired if the delay of 10 ticks has reached its end.
+     * Event callback triggered when a player is moving, just to know if it is touching its arena border. If so, a
+     * {@link PlayerHitsWorldBorderEvent} is fired if the delay of 10 ticks has reached its end. Only the prays
+     * tracked by the {@link BorderTracker} are checked.
      *
      * @param event The event.
      */
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
         final Player player = event.getPlayer();
-        final WorldBorder border = player.getLocation().getWorld().getWorldBorder();
 
-        if (this.hitsWorldBorder(player, border)) {
-            this.call(new PlayerHitsWorldBorderEvent(player));
+        if (this.tracker.hitsBorder(player, event.getTo())) {
+            this.call(new PlayerHitsWorldBorderEvent(player), player);
         }
     }
     
     /**
-     * Event callback triggered when an entity is moving, just to know if it is touching the {@link WorldBorder}. If
-     * so, an {@link EntityHitsWorldBorderEvent} is fired if the delay of 10 ticks has reached its end.
+     * Event callback triggered when an egg is thrown, which hands it to the {@link ProjectileTracker} to know when it
+     * crosses the arena {@link WorldBorder} of its shooter. When it does, an {@link EntityHitsWorldBorderEvent} is
+     * fired and the egg is removed. The crossing deadline is registered in the wheel of the shooter arena, so that it
+     * runs on the thread owning the arena.
      *
      * @param event The event.
      */
     @EventHandler
     public void onEggLaunch(ProjectileLaunchEvent event) {
-        if (!(event.getEntity() instanceof final Egg egg)) {
+        if (!(event.getEntity() instanceof final Egg egg) || !(egg.getShooter() instanceof final Player shooter)) {
             return;
         }
         
-        final WorldBorder border = egg.getLocation().getWorld().getWorldBorder();
-        
-        this.task = Bukkit.getScheduler().scheduleSyncRepeatingTask(this.plugin, () -> {
-            if (egg.isDead()) {
-                Bukkit.getScheduler().cancelTask(this.task);
-                return;
-            }
-            
-            if (this.hitsWorldBorder(egg, border)) {
-                new EntityHitsWorldBorderEvent(egg, border).callEvent();
-                egg.remove();
-            }
-        }, 0L, 5L);
+        final WorldBorder border = shooter.getWorldBorder();
+        final Optional<Arena> arena = this.manager.getArena(shooter);
 
-        if (this.hitsWorldBorder(egg, border)) {
-            this.call(new EntityHitsWorldBorderEvent(egg, border));
+        if (border == null || arena.isEmpty()) {
+            return;
         }
+        
+        this.projectiles.track(egg, border, arena.get().getWheel(), arena.get().getMeter(), () -> {
+            new EntityHitsWorldBorderEvent(egg, border).callEvent();
+            egg.remove();
+        });
     }
 
     /**
-     * Event callback triggered when an {@link Egg} hits a block or a player.
+     * Event callback triggered when an {@link Egg} hits a block or a player. The cooldown is applied to the egg
+     * shooter, so that each hunter is handled on its own.
      *
      * @param event The event.
      */
     @EventHandler
     public void onHitByEgg(ProjectileHitEvent event) {
         if (event.getEntity() instanceof Egg egg) {
+            this.projectiles.untrack(egg);
+
+            final Entity owner = egg.getShooter() instanceof final Entity shooter ? shooter : egg;
+
             if (event.getHitEntity() instanceof Player player) {
-                this.call(new PlayerHitByEggEvent(egg, player));
+                this.call(new PlayerHitByEggEvent(egg, player), owner);
             } else {
-                this.call(new BlockHitByEggEvent(egg, event.getHitBlock(), event.getHitBlockFace()));
+                this.call(new BlockHitByEggEvent(egg, event.getHitBlock(), event.getHitBlockFace()), owner);
             }
         }
     }
 
     /**
-     * Checks whether the given {@link Event} to call is NOT in the event cooldown set.
-     * 
-     * @param event The event to check.
-     * @return {@code true} if the event can be called, {@code false} otherwise.
+     * Event callback triggered when a player leaves the server, which forgets all of its cooldowns.
+     *
+     * @param event The event.
      */
-    private boolean isCallable(Event event) {
-        return !this.cooldown.contains(event.getClass());
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.cooldown.remove(event.getPlayer().getUniqueId());
     }
 
     /**
-     * Calls {@link Event#callEvent()} on the provided {@link Event} if the associated delay of 10 ticks has reached its
-     * end.
+     * Calls {@link Event#callEvent()} on the provided {@link Event} if the delay of 10 ticks of the given
+     * {@link Entity} for this type of event has reached its end.
      * 
      * @param event The event to fire.
+     * @param owner The entity the cooldown is applied to.
      */
-    private void call(Event event) {
-        if (!this.isCallable(event)) {
-            return;
+    private void call(Event event, Entity owner) {
+        if (this.cooldown.tryAcquire(owner.getUniqueId(), event.getClass(), Bukkit.getCurrentTick())) {
+            event.callEvent();
         }
-        
-        final Class<? extends Event> clazz = event.getClass();
-        
-        event.callEvent();
-        this.cooldown.add(clazz);
-        Bukkit.getScheduler().scheduleSyncDelayedTask(this.plugin, () -> this.cooldown.remove(clazz), 10L);
-    }
-
-    /**
-     * Checks whether the provided {@link Entity} is touching (or has crossed) the {@link WorldBorder}.
-     * 
-     * @param entity The concerned entity.
-     * @param border The world border.
-     * @return {@code true} if the entity is touching the world border, {@code false} otherwise.
-     */
-    private boolean hitsWorldBorder(Entity entity, WorldBorder border) {
-        final Location location = entity.getLocation();
-        final Location center = border.getCenter();
-        final double size = border.getSize() / 2f;
-
-        final double distX = Math.abs(location.getX() - center.getX());
-        final double distZ = Math.abs(location.getZ() - center.getZ());
-
-        return distX >= size || distZ >= size;
     }
     
 }
@@ -0,0 +1,186 @@
+package fr.tartur.games.runningegg.listeners;
+
+import fr.tartur.games.runningegg.api.events.BlockHitByEggEvent;
+import fr.tartur.games.runningegg.api.events.EntityHitsWorldBorderEvent;
+import fr.tartur.games.runningegg.api.events.PlayerHitByEggEvent;
+import fr.tartur.games.runningegg.api.events.PlayerHitsWorldBorderEvent;
+import fr.tartur.games.runningegg.game.Arena;
+import fr.tartur.games.runningegg.game.Game;
+import fr.tartur.games.runningegg.game.GameManager;
+import fr.tartur.games.runningegg.profiler.HandlerProfiler;
+import io.papermc.paper.event.player.PlayerItemFrameChangeEvent;
+import org.bukkit.entity.Egg;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.ProjectileLaunchEvent;
+
+/**
+ * Class listening to every event a running {@link Game} reacts to, registered once for the whole server. Each event is
+ * only handed to the game of the {@link Arena} its player, or the shooter of its egg, is in, found with a single
+ * lookup in the {@link GameManager}. Thus, no handler list is ever changed when a game starts or ends, and an event
+ * costs the same whatever the amount of running games.
+ * <p>
+ * The time each game takes to handle an event is recorded in the {@link HandlerProfiler}, in the scope of its arena.
+ */
+public class GameDispatcher implements Listener {
+
+    private final GameManager manager;
+    private final HandlerProfiler profiler;
+
+    /**
+     * Class constructor, which needs the {@link GameManager} knowing the arena of every player, and the
+     * {@link HandlerProfiler} recording the time each game takes to handle an event.
+     *
+     * @param manager The said game manager.
+     * @param profiler The said profiler.
+     */
+    public GameDispatcher(GameManager manager, HandlerProfiler profiler) {
+        this.manager = manager;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Event callback triggered when a player interacts with an item frame, handed to the game of its arena.
+     *
+     * @param event The event.
+     * @see Game#onPlayerClickAtItemFrame(PlayerItemFrameChangeEvent)
+     */
+    @EventHandler
+    public void onPlayerClickAtItemFrame(PlayerItemFrameChangeEvent event) {
+        final Game game = this.gameOf(event.getPlayer());
+
+        if (game != null) {
+            final long start = System.nanoTime();
+            game.onPlayerClickAtItemFrame(event);
+            this.record(game, "Game#onPlayerClickAtItemFrame", start);
+        }
+    }
+
+    /**
+     * Event callback triggered when a pray hits its arena border, handed to the game of its arena.
+     *
+     * @param event The event.
+     * @see Game#onPlayerHitsWorldBorder(PlayerHitsWorldBorderEvent)
+     */
+    @EventHandler
+    public void onPlayerHitsWorldBorder(PlayerHitsWorldBorderEvent event) {
+        final Game game = this.gameOf(event.getPlayer());
+
+        if (game != null) {
+            final long start = System.nanoTime();
+            game.onPlayerHitsWorldBorder(event);
+            this.record(game, "Game#onPlayerHitsWorldBorder", start);
+        }
+    }
+
+    /**
+     * Event callback triggered when an egg is thrown, handed to the game of the arena of its shooter.
+     *
+     * @param event The event.
+     * @see Game#onEggLaunch(Egg)
+     */
+    @EventHandler
+    public void onEggLaunch(ProjectileLaunchEvent event) {
+        if (!(event.getEntity() instanceof final Egg egg)) {
+            return;
+        }
+
+        final Game game = this.gameOf(egg);
+
+        if (game != null) {
+            final long start = System.nanoTime();
+            game.onEggLaunch(egg);
+            this.record(game, "Game#onEggLaunch", start);
+        }
+    }
+
+    /**
+     * Event callback triggered when a thrown egg crosses its arena border, handed to the game of the arena of its
+     * shooter.
+     *
+     * @param event The event.
+     * @see Game#onEggHitsWorldBorder(EntityHitsWorldBorderEvent)
+     */
+    @EventHandler
+    public void onEggHitsWorldBorder(EntityHitsWorldBorderEvent event) {
+        if (!(event.getEntity() instanceof final Egg egg)) {
+            return;
+        }
+
+        final Game game = this.gameOf(egg);
+
+        if (game != null) {
+            final long start = System.nanoTime();
+            game.onEggHitsWorldBorder(event);
+            this.record(game, "Game#onEggHitsWorldBorder", start);
+        }
+    }
+
+    /**
+     * Event callback triggered when a thrown egg hits a player, handed to the game of the arena of its shooter.
+     *
+     * @param event The event.
+     * @see Game#onPlayerHitByEgg(PlayerHitByEggEvent)
+     */
+    @EventHandler
+    public void onPlayerHitByEgg(PlayerHitByEggEvent event) {
+        final Game game = this.gameOf(event.getEntity());
+
+        if (game != null) {
+            final long start = System.nanoTime();
+            game.onPlayerHitByEgg(event);
+            this.record(game, "Game#onPlayerHitByEgg", start);
+        }
+    }
+
+    /**
+     * Event callback triggered when a thrown egg hits a block, handed to the game of the arena of its shooter.
+     *
+     * @param event The event.
+     * @see Game#onBlockHitByEgg(BlockHitByEggEvent)
+     */
+    @EventHandler
+    public void onBlockHitByEgg(BlockHitByEggEvent event) {
+        final Game game = this.gameOf(event.getEntity());
+
+        if (game != null) {
+            final long start = System.nanoTime();
+            game.onBlockHitByEgg(event);
+            this.record(game, "Game#onBlockHitByEgg", start);
+        }
+    }
+
+    /**
+     * Gets the {@link Game} running in the arena of the provided {@link Player}.
+     *
+     * @param player The player.
+     * @return The said game, or {@code null} if the player is in no arena or if no game is running in it.
+     */
+    private Game gameOf(Player player) {
+        return this.manager.getArena(player).map(Arena::getGame).orElse(null);
+    }
+
+    /**
+     * Gets the {@link Game} running in the arena of the shooter of the provided {@link Projectile}.
+     *
+     * @param projectile The projectile.
+     * @return The said game, or {@code null} if the projectile was not shot by a player in a running game.
+     */
+    private Game gameOf(Projectile projectile) {
+        return projectile.getShooter() instanceof final Player shooter ? this.gameOf(shooter) : null;
+    }
+
+    /**
+     * Records the time the provided {@link Game} took to handle an event, in the scope of its arena.
+     *
+     * @param game The game.
+     * @param handler The name of the handler.
+     * @param start The time at which the game started handling the event, in nanoseconds.
+     */
+    private void record(Game game, String handler, long start) {
+        this.profiler.histogram(game.getArena().getName(), handler).record(System.nanoTime() - start);
+    }
+
+}
@@ -0,0 +1,217 @@
+package fr.tartur.games.runningegg.metrics;
+
+import fr.tartur.games.runningegg.game.Arena;
+import fr.tartur.games.runningegg.game.ArenaRegistry;
+import fr.tartur.games.runningegg.game.GameRole;
+import fr.tartur.games.runningegg.profiler.HandlerProfiler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Class which regularly writes the counters of {@link RunningEggStats} to a file in the Prometheus text format, meant
+ * to be collected by the textfile collector of a node exporter. Thus, the plugin never opens any network port.
+ * <p>
+ * The file is written asynchronously to a temporary file which then atomically replaces the real one, so that the
+ * collector never reads a partially written file.
+ */
+public class PrometheusExporter {
+
+    /**
+     * Delay (in seconds) between two writes of the metrics file when none is written in the plugin's
+     * {@code config.yml} file.
+     */
+    public static final long DEFAULT_INTERVAL = 15L;
+
+    private final Plugin plugin;
+    private final Logger log;
+    private final HandlerProfiler profiler;
+    private final RunningEggStats stats;
+    private final ArenaRegistry arenas;
+    private final Path file;
+    private final long interval;
+    private ScheduledTask task;
+
+    /**
+     * Class constructor, which needs the {@link RunningEggStats} to export and the file they are written to.
+     *
+     * @param plugin The main plugin instance.
+     * @param stats The counters to export.
+     * @param arenas The registry of every arena, whose counters are also exported one by one.
+     * @param file The file the metrics are written to.
+     * @param interval The delay between two writes, in seconds.
+     * @param profiler The profiler measuring each write.
+     */
+    public PrometheusExporter(Plugin plugin, RunningEggStats stats, ArenaRegistry arenas, Path file, long interval,
+                              HandlerProfiler profiler) {
+        this.plugin = plugin;
+        this.log = plugin.getLogger();
+        this.profiler = profiler;
+        this.stats = stats;
+        this.arenas = arenas;
+        this.file = file;
+        this.interval = Math.max(1L, interval);
+        this.task = null;
+    }
+
+    /**
+     * Starts writing the metrics file at a fixed interval, if it was not already.
+     */
+    public void start() {
+        if (this.task == null) {
+            this.task = Bukkit.getAsyncScheduler().runAtFixedRate(this.plugin, this.profiler.measure(
+                    HandlerProfiler.GLOBAL, "PrometheusExporter#export", scheduled -> this.export()),
+                    this.interval, this.interval, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stops writing the metrics file.
+     */
+    public void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+
+    /**
+     * Writes the counters to the metrics file.
+     */
+    private void export() {
+        final Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(this.file.getParent());
+            Files.writeString(temp, this.render(), StandardCharsets.UTF_8);
+
+            try {
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            this.log.log(Level.WARNING, "Could not write the metrics file " + this.file + ".", e);
+        }
+    }
+
+    /**
+     * Renders every counter in the Prometheus text format.
+     *
+     * @return The said text.
+     */
+    private String render() {
+        final StringBuilder out = new StringBuilder(2048);
+
+        metric(out, "runningegg_arenas", "gauge", "Loaded arenas.", this.stats.getArenas());
+        metric(out, "runningegg_active_arenas", "gauge", "Arenas running a game.", this.stats.getActiveArenas());
+        metric(out, "runningegg_rounds_per_minute", "gauge", "Rounds started per minute.",
+                this.stats.getRoundsPerMinute());
+        metric(out, "runningegg_spin_ticks_average", "gauge", "Average length of an arrow spin, in ticks.",
+                this.stats.getAverageSpinTicks());
+        metric(out, "runningegg_teleports_total", "counter", "Ended teleportations.", this.stats.getTeleports());
+        metric(out, "runningegg_teleport_latency_ms_average", "gauge",
+                "Average time between a teleportation request and its end, in milliseconds.",
+                this.stats.getAverageTeleportMillis());
+        metric(out, "runningegg_eggs_in_flight", "gauge", "Thrown eggs tracked until they cross their border.",
+                this.stats.getEggsInFlight());
+        metric(out, "runningegg_config_flushes_total", "counter", "Writes of the config.yml file.",
+                this.stats.getConfigFlushes());
+        metric(out, "runningegg_config_flush_ms_average", "gauge",
+                "Average time spent writing the config.yml file, in milliseconds.",
+                this.stats.getAverageConfigFlushMillis());
+
+        header(out, "runningegg_border_checks_total", "counter", "Border checks of moving prays, by outcome.");
+        sample(out, "runningegg_border_checks_total{outcome=\"performed\"}", this.stats.getBorderChecksPerformed());
+        sample(out, "runningegg_border_checks_total{outcome=\"skipped\"}", this.stats.getBorderChecksSkipped());
+
+        header(out, "runningegg_rounds_total", "counter", "Rounds started, by arena.");
+
+        for (final Arena arena : this.arenas.getArenas()) {
+            sample(out, "runningegg_rounds_total{arena=\"" + escape(arena.getName()) + "\"}",
+                    arena.getFrame().getSpins());
+        }
+
+        header(out, "runningegg_pinned_chunks", "gauge", "Chunks kept loaded, by arena.");
+
+        for (final Arena arena : this.arenas.getArenas()) {
+            sample(out, "runningegg_pinned_chunks{arena=\"" + escape(arena.getName()) + "\"}",
+                    arena.getPinnedChunks());
+        }
+
+        header(out, "runningegg_players", "gauge", "Players, by arena and role.");
+
+        for (final Arena arena : this.arenas.getArenas()) {
+            final String name = escape(arena.getName());
+
+            sample(out, "runningegg_players{arena=\"" + name + "\",role=\"lobby\"}", arena.getWaitingRoom().size());
+
+            for (final GameRole role : GameRole.values()) {
+                sample(out, "runningegg_players{arena=\"" + name + "\",role=\"" +
+                        role.name().toLowerCase(Locale.ROOT) + "\"}", RunningEggStats.countArenaPlayers(arena, role));
+            }
+        }
+
+        return out.toString();
+    }
+
+    /**
+     * Appends a metric without labels, along with its header.
+     *
+     * @param out The builder.
+     * @param name The metric name.
+     * @param type The metric type.
+     * @param help The metric description.
+     * @param value The metric value.
+     */
+    private static void metric(StringBuilder out, String name, String type, String help, double value) {
+        header(out, name, type, help);
+        sample(out, name, value);
+    }
+
+    /**
+     * Appends the {@code HELP} and {@code TYPE} lines of a metric.
+     *
+     * @param out The builder.
+     * @param name The metric name.
+     * @param type The metric type.
+     * @param help The metric description.
+     */
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Appends a sample of a metric.
+     *
+     * @param out The builder.
+     * @param series The metric name, along with its labels.
+     * @param value The sample value.
+     */
+    private static void sample(StringBuilder out, String series, double value) {
+        out.append(series).append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Escapes the provided label value, as required by the Prometheus text format.
+     *
+     * @param value The label value.
+     * @return The escaped value.
+     */
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+}
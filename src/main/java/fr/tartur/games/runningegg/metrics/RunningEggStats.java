@@ -0,0 +1,219 @@
+package fr.tartur.games.runningegg.metrics;
+
+import fr.tartur.games.runningegg.config.ConfigStore;
+import fr.tartur.games.runningegg.game.Arena;
+import fr.tartur.games.runningegg.game.ArenaRegistry;
+import fr.tartur.games.runningegg.game.BorderTracker;
+import fr.tartur.games.runningegg.game.Game;
+import fr.tartur.games.runningegg.game.GameRole;
+import fr.tartur.games.runningegg.game.ProjectileTracker;
+import fr.tartur.games.runningegg.game.TeleportService;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class which gathers the operational counters of the plugin from the components owning them, so that they can be
+ * exposed as a JMX MBean and exported in the Prometheus format.
+ * <p>
+ * Every value is read on demand, without locking: counters are {@link java.util.concurrent.atomic.LongAdder}s, and the
+ * amounts of players are read from live collections, which may be one tick old when read from another thread.
+ *
+ * @see PrometheusExporter
+ */
+public class RunningEggStats implements RunningEggStatsMBean {
+
+    private static final long RATE_WINDOW = TimeUnit.MINUTES.toNanos(1L);
+
+    private final ArenaRegistry arenas;
+    private final BorderTracker tracker;
+    private final ProjectileTracker projectiles;
+    private final TeleportService teleports;
+    private final ConfigStore config;
+    private long lastRounds;
+    private long lastSample;
+    private double roundsPerMinute;
+
+    /**
+     * Class constructor, which needs every component whose counters are exposed.
+     *
+     * @param arenas The registry of every arena.
+     * @param tracker The tracker checking whether prays hit their arena border.
+     * @param projectiles The tracker of thrown eggs.
+     * @param teleports The service moving the players.
+     * @param config The store of the plugin's {@code config.yml} file.
+     */
+    public RunningEggStats(ArenaRegistry arenas, BorderTracker tracker, ProjectileTracker projectiles,
+                           TeleportService teleports, ConfigStore config) {
+        this.arenas = arenas;
+        this.tracker = tracker;
+        this.projectiles = projectiles;
+        this.teleports = teleports;
+        this.config = config;
+        this.lastRounds = 0L;
+        this.lastSample = System.nanoTime();
+        this.roundsPerMinute = 0d;
+    }
+
+    /**
+     * Counts the players with the provided {@link GameRole} in the game of the given {@link Arena}.
+     *
+     * @param arena The arena.
+     * @param role The role.
+     * @return The said amount, or {@code 0} if no game is running in the arena.
+     */
+    public static int countArenaPlayers(Arena arena, GameRole role) {
+        final Game game = arena.getGame();
+        return game == null ? 0 : game.getPlayers().count(role);
+    }
+
+    @Override
+    public int getArenas() {
+        return this.arenas.getArenas().size();
+    }
+
+    @Override
+    public int getActiveArenas() {
+        int active = 0;
+
+        for (final Arena arena : this.arenas.getArenas()) {
+            if (arena.getGame() != null) {
+                ++active;
+            }
+        }
+
+        return active;
+    }
+
+    @Override
+    public Map<String, Integer> getPinnedChunks() {
+        final Map<String, Integer> pinned = new LinkedHashMap<>();
+
+        for (final Arena arena : this.arenas.getArenas()) {
+            pinned.put(arena.getName(), arena.getPinnedChunks());
+        }
+
+        return pinned;
+    }
+
+    @Override
+    public int getWaitingPlayers() {
+        int players = 0;
+
+        for (final Arena arena : this.arenas.getArenas()) {
+            players += arena.getWaitingRoom().size();
+        }
+
+        return players;
+    }
+
+    @Override
+    public int getHunters() {
+        return this.countPlayers(GameRole.HUNTER);
+    }
+
+    @Override
+    public int getPrays() {
+        return this.countPlayers(GameRole.PRAY);
+    }
+
+    @Override
+    public int getSpectators() {
+        return this.countPlayers(GameRole.SPECTATOR);
+    }
+
+    @Override
+    public long getRounds() {
+        long rounds = 0L;
+
+        for (final Arena arena : this.arenas.getArenas()) {
+            rounds += arena.getFrame().getSpins();
+        }
+
+        return rounds;
+    }
+
+    @Override
+    public synchronized double getRoundsPerMinute() {
+        final long now = System.nanoTime();
+        final long elapsed = now - this.lastSample;
+
+        if (elapsed >= RATE_WINDOW) {
+            final long rounds = this.getRounds();
+
+            this.roundsPerMinute = (double) (rounds - this.lastRounds) * RATE_WINDOW / elapsed;
+            this.lastRounds = rounds;
+            this.lastSample = now;
+        }
+
+        return this.roundsPerMinute;
+    }
+
+    @Override
+    public double getAverageSpinTicks() {
+        long spins = 0L;
+        long ticks = 0L;
+
+        for (final Arena arena : this.arenas.getArenas()) {
+            spins += arena.getFrame().getSpins();
+            ticks += arena.getFrame().getSpinTicks();
+        }
+
+        return spins == 0L ? 0d : (double) ticks / spins;
+    }
+
+    @Override
+    public long getTeleports() {
+        return this.teleports.getTeleports();
+    }
+
+    @Override
+    public double getAverageTeleportMillis() {
+        final long teleports = this.teleports.getTeleports();
+        return teleports == 0L ? 0d : this.teleports.getLatency() / 1_000_000d / teleports;
+    }
+
+    @Override
+    public int getEggsInFlight() {
+        return this.projectiles.size();
+    }
+
+    @Override
+    public long getBorderChecksPerformed() {
+        return this.tracker.getPerformed();
+    }
+
+    @Override
+    public long getBorderChecksSkipped() {
+        return this.tracker.getSkipped();
+    }
+
+    @Override
+    public long getConfigFlushes() {
+        return this.config.getFlushes();
+    }
+
+    @Override
+    public double getAverageConfigFlushMillis() {
+        final long flushes = this.config.getFlushes();
+        return flushes == 0L ? 0d : this.config.getFlushTime() / 1_000_000d / flushes;
+    }
+
+    /**
+     * Counts the players with the provided {@link GameRole} in every running game.
+     *
+     * @param role The role.
+     * @return The said amount.
+     */
+    private int countPlayers(GameRole role) {
+        int players = 0;
+
+        for (final Arena arena : this.arenas.getArenas()) {
+            players += countArenaPlayers(arena, role);
+        }
+
+        return players;
+    }
+
+}
@@ -0,0 +1,132 @@
+package fr.tartur.games.runningegg.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link RunningEggStats}, through which every operational counter of the plugin is exposed as
+ * a read-only JMX attribute.
+ */
+public interface RunningEggStatsMBean {
+
+    /**
+     * Gets the amount of loaded arenas.
+     *
+     * @return The said amount.
+     */
+    int getArenas();
+
+    /**
+     * Gets the amount of arenas in which a game is running.
+     *
+     * @return The said amount.
+     */
+    int getActiveArenas();
+
+    /**
+     * Gets the amount of chunks kept loaded by each arena, from the start of its countdown to the end of its game.
+     *
+     * @return The said amounts, keyed by arena name.
+     */
+    Map<String, Integer> getPinnedChunks();
+
+    /**
+     * Gets the amount of players in the waiting room of every arena.
+     *
+     * @return The said amount.
+     */
+    int getWaitingPlayers();
+
+    /**
+     * Gets the amount of hunters in every running game.
+     *
+     * @return The said amount.
+     */
+    int getHunters();
+
+    /**
+     * Gets the amount of prays in every running game.
+     *
+     * @return The said amount.
+     */
+    int getPrays();
+
+    /**
+     * Gets the amount of spectators in every running game.
+     *
+     * @return The said amount.
+     */
+    int getSpectators();
+
+    /**
+     * Gets the amount of rounds started in every arena since the plugin was enabled.
+     *
+     * @return The said amount.
+     */
+    long getRounds();
+
+    /**
+     * Gets the amount of rounds started per minute. The rate is computed on read, over the time elapsed since it was
+     * last computed, and only once at least a minute has elapsed: its value does not depend on who reads it nor how
+     * often.
+     *
+     * @return The said amount.
+     */
+    double getRoundsPerMinute();
+
+    /**
+     * Gets the average length of an arrow spin.
+     *
+     * @return The said length, in ticks.
+     */
+    double getAverageSpinTicks();
+
+    /**
+     * Gets the amount of ended teleportations.
+     *
+     * @return The said amount.
+     */
+    long getTeleports();
+
+    /**
+     * Gets the average time between a teleportation request and its end.
+     *
+     * @return The said time, in milliseconds.
+     */
+    double getAverageTeleportMillis();
+
+    /**
+     * Gets the amount of thrown eggs whose border crossing is tracked.
+     *
+     * @return The said amount.
+     */
+    int getEggsInFlight();
+
+    /**
+     * Gets the amount of border checks computed for moving prays.
+     *
+     * @return The said amount.
+     */
+    long getBorderChecksPerformed();
+
+    /**
+     * Gets the amount of border checks skipped for moving prays too far from their border.
+     *
+     * @return The said amount.
+     */
+    long getBorderChecksSkipped();
+
+    /**
+     * Gets the amount of writes of the {@code config.yml} file.
+     *
+     * @return The said amount.
+     */
+    long getConfigFlushes();
+
+    /**
+     * Gets the average time spent writing the {@code config.yml} file.
+     *
+     * @return The said time, in milliseconds.
+     */
+    double getAverageConfigFlushMillis();
+
+}
@@ -0,0 +1,181 @@
+package fr.tartur.games.runningegg.profiler;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Class which measures how long each event handler and each scheduled task of the plugin takes, grouped by scope: the
+ * name of the arena they belong to, or {@link #GLOBAL} for the ones shared by every arena.
+ * <p>
+ * Listeners are not measured from their own code: they are registered through {@link #register(Plugin, Listener,
+ * String)}, which wraps the {@link EventExecutor} of each of their {@link EventHandler} methods with a timer. Thus,
+ * handlers stay free of any profiling code, and a measured call only costs two {@link System#nanoTime()} calls and
+ * a few {@link java.util.concurrent.atomic.LongAdder} increments. Tasks given to the server schedulers are measured the
+ * same way, by wrapping them with {@link #measure(String, String, Consumer)}.
+ *
+ * @see Histogram
+ */
+public class HandlerProfiler {
+
+    /**
+     * Scope of the handlers and tasks which do not belong to a single arena.
+     */
+    public static final String GLOBAL = "global";
+
+    private static final ClassValue<String> TASK_LABELS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            final String name = type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+            final int lambda = name.indexOf("$$");
+            final String owner = lambda < 0 ? name : name.substring(0, lambda);
+            final int nested = owner.indexOf('$');
+
+            return "task:" + (nested < 0 ? owner : owner.substring(0, nested)).replaceFirst("^.*\\.", "");
+        }
+    };
+
+    private final Map<String, Map<String, Histogram>> scopes;
+    private volatile int startTick;
+
+    /**
+     * Class constructor, which starts measuring from the current server tick.
+     */
+    public HandlerProfiler() {
+        this.scopes = new ConcurrentHashMap<>();
+        this.startTick = Bukkit.getCurrentTick();
+    }
+
+    /**
+     * Registers every {@link EventHandler} method of the provided {@link Listener}, like
+     * {@link org.bukkit.plugin.PluginManager#registerEvents(Listener, Plugin)} does, measuring each of them in the
+     * given scope.
+     *
+     * @param plugin The plugin owning the listener.
+     * @param listener The listener.
+     * @param scope The scope of its handlers.
+     */
+    public void register(Plugin plugin, Listener listener, String scope) {
+        for (final Method method : listener.getClass().getMethods()) {
+            final EventHandler annotation = method.getAnnotation(EventHandler.class);
+
+            if (annotation == null || method.isBridge() || method.isSynthetic() || method.getParameterCount() != 1
+                    || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+
+            final Class<? extends Event> type = method.getParameterTypes()[0].asSubclass(Event.class);
+            final EventExecutor delegate = EventExecutor.create(method, type);
+            final Histogram histogram = this.histogram(scope,
+                    listener.getClass().getSimpleName() + "#" + method.getName());
+
+            plugin.getServer().getPluginManager().registerEvent(type, listener, annotation.priority(),
+                    (target, event) -> {
+                        if (!type.isInstance(event)) {
+                            return;
+                        }
+
+                        final long start = System.nanoTime();
+
+                        try {
+                            delegate.execute(target, event);
+                        } finally {
+                            histogram.record(System.nanoTime() - start);
+                        }
+                    }, plugin, annotation.ignoreCancelled());
+        }
+    }
+
+    /**
+     * Gets the {@link Histogram} of the provided handler in the given scope, creating it if needed.
+     *
+     * @param scope The scope.
+     * @param handler The handler name.
+     * @return The said histogram.
+     */
+    public Histogram histogram(String scope, String handler) {
+        return this.scopes.computeIfAbsent(scope, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(handler, ignored -> new Histogram());
+    }
+
+    /**
+     * Gets the {@link Histogram} of the provided scheduled task in the given scope, named after the class which
+     * scheduled it.
+     *
+     * @param scope The scope.
+     * @param task The task.
+     * @return The said histogram.
+     */
+    public Histogram task(String scope, Runnable task) {
+        return this.histogram(scope, TASK_LABELS.get(task.getClass()));
+    }
+
+    /**
+     * Wraps the provided server scheduler task, so that each of its runs is measured in the given scope under the given
+     * name.
+     *
+     * @param scope The scope.
+     * @param name The task name.
+     * @param task The task.
+     * @return The measured task, to give to the scheduler instead.
+     */
+    public Consumer<ScheduledTask> measure(String scope, String name, Consumer<ScheduledTask> task) {
+        final Histogram histogram = this.histogram(scope, "task:" + name);
+
+        return scheduled -> {
+            final long start = System.nanoTime();
+
+            try {
+                task.accept(scheduled);
+            } finally {
+                histogram.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Builds one line per measured handler, sorted by scope and then by the time it took per tick.
+     *
+     * @return The said lines.
+     */
+    public List<String> report() {
+        final int ticks = Math.max(1, Bukkit.getCurrentTick() - this.startTick);
+        final List<String> lines = new ArrayList<>();
+
+        this.scopes.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(scope -> scope.getValue().entrySet().stream()
+                        .filter(entry -> entry.getValue().getCount() > 0L)
+                        .sorted((a, b) -> Long.compare(b.getValue().getTotal(), a.getValue().getTotal()))
+                        .forEach(entry -> {
+                            final Histogram histogram = entry.getValue();
+
+                            lines.add("[%s] %s: %d appels, p50 %.1f µs, p99 %.1f µs, %.4f ms/tick".formatted(
+                                    scope.getKey(), entry.getKey(), histogram.getCount(),
+                                    histogram.getPercentile(50d) / 1_000d, histogram.getPercentile(99d) / 1_000d,
+                                    histogram.getTotal() / 1_000_000d / ticks));
+                        }));
+
+        return lines;
+    }
+
+    /**
+     * Empties every histogram, and starts measuring again from the current server tick.
+     */
+    public void reset() {
+        this.scopes.values().forEach(handlers -> handlers.values().forEach(Histogram::reset));
+        this.startTick = Bukkit.getCurrentTick();
+    }
+
+}
@@ -0,0 +1,105 @@
+package fr.tartur.games.runningegg.profiler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class which records durations in logarithmic buckets, each of them covering the durations between two consecutive
+ * powers of two nanoseconds. Every counter is a striped {@link LongAdder}, so that recording a duration from several
+ * threads never contends, and never allocates.
+ * <p>
+ * Percentiles are read from the buckets, which makes them accurate within a factor of two: enough to tell a handler
+ * taking microseconds from one taking milliseconds.
+ */
+public class Histogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets;
+    private final LongAdder count;
+    private final LongAdder total;
+
+    /**
+     * Class constructor, which starts with every bucket empty.
+     */
+    public Histogram() {
+        this.buckets = new LongAdder[BUCKETS];
+        this.count = new LongAdder();
+        this.total = new LongAdder();
+
+        for (int i = 0; i < BUCKETS; ++i) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The said duration, in nanoseconds.
+     */
+    public void record(long nanos) {
+        final long value = Math.max(1L, nanos);
+
+        this.buckets[63 - Long.numberOfLeadingZeros(value)].increment();
+        this.count.increment();
+        this.total.add(value);
+    }
+
+    /**
+     * Gets the amount of recorded durations.
+     *
+     * @return The said amount.
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Gets the sum of every recorded duration.
+     *
+     * @return The said sum, in nanoseconds.
+     */
+    public long getTotal() {
+        return this.total.sum();
+    }
+
+    /**
+     * Gets an upper bound of the given percentile of the recorded durations.
+     *
+     * @param percentile The percentile, in {@code ]0, 100]}.
+     * @return The upper bound of the bucket holding the said percentile, in nanoseconds, or {@code 0} if nothing was
+     * recorded.
+     */
+    public long getPercentile(double percentile) {
+        final long count = this.count.sum();
+
+        if (count == 0L) {
+            return 0L;
+        }
+
+        final long rank = (long) Math.ceil(count * percentile / 100d);
+        long seen = 0L;
+
+        for (int i = 0; i < BUCKETS; ++i) {
+            seen += this.buckets[i].sum();
+
+            if (seen >= rank) {
+                return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1L;
+            }
+        }
+
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Empties every bucket.
+     */
+    public void reset() {
+        for (final LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+
+        this.count.reset();
+        this.total.reset();
+    }
+
+}
@@ -0,0 +1,69 @@
+package fr.tartur.games.runningegg.scheduler;
+
+/**
+ * Class which accumulates the cost of the tasks run by a {@link TickWheel} on behalf of a single owner, such as an
+ * arena: how many times they ran, in how many distinct ticks, and how long they took.
+ *
+ * @see TickWheel#schedule(int, Runnable, TaskMeter)
+ */
+public final class TaskMeter {
+
+    private long runs;
+    private long ticks;
+    private long nanos;
+    private int lastTick;
+
+    /**
+     * Class constructor, which starts with every counter at zero.
+     */
+    public TaskMeter() {
+        this.runs = 0L;
+        this.ticks = 0L;
+        this.nanos = 0L;
+        this.lastTick = -1;
+    }
+
+    /**
+     * Records a task run.
+     *
+     * @param tick The wheel tick at which the task ran.
+     * @param duration The time the task took, in nanoseconds.
+     */
+    void record(int tick, long duration) {
+        ++this.runs;
+        this.nanos += duration;
+
+        if (tick != this.lastTick) {
+            ++this.ticks;
+            this.lastTick = tick;
+        }
+    }
+
+    /**
+     * Gets the amount of task runs recorded.
+     *
+     * @return The said amount.
+     */
+    public long getRuns() {
+        return runs;
+    }
+
+    /**
+     * Gets the amount of distinct ticks in which at least one task ran.
+     *
+     * @return The said amount.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the total time spent running tasks.
+     *
+     * @return The said time, in microseconds.
+     */
+    public long getMicros() {
+        return nanos / 1000L;
+    }
+
+}
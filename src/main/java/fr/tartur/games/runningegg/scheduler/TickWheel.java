@@ -0,0 +1,373 @@
+package fr.tartur.games.runningegg.scheduler;
+
+import fr.tartur.games.runningegg.profiler.HandlerProfiler;
+import fr.tartur.games.runningegg.profiler.Histogram;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Class representing a hierarchical timing wheel, which runs every registered {@link Timeout} on its deadline using a
+ * single {@link ScheduledTask} ticking once per server tick. Every timer of an arena is registered in its wheel, so
+ * that the server scheduler only ever holds one task per arena, no matter how many timeouts are pending.
+ * <p>
+ * The wheel ticks on the region scheduler owning its anchor {@link Location}. On a region-threaded server, the wheels
+ * of arenas in different regions thus tick in parallel, and every timeout runs on the thread owning its arena. On a
+ * regular server, the region scheduler runs on the main thread.
+ * <p>
+ * The first level has one slot per tick for the next {@value #SLOTS} ticks. Each further level has {@value #CHILDREN}
+ * slots, each of them covering a whole revolution of the previous level. When a level completes a revolution, the
+ * matching slot of the next level is cascaded down. Thus, scheduling and cancelling a timeout are constant-time
+ * operations, and a timeout is only moved a few times before it runs, whatever its delay.
+ * <p>
+ * Timeouts can be scheduled from any thread: the wheel state is only ever touched by the thread ticking it, and
+ * timeouts scheduled from any other thread are handed over through a concurrent queue drained at the start of each
+ * tick. Since a timeout is only cancelled by a flag, it can also be cancelled from any thread.
+ * <p>
+ * A task throwing an exception is logged and never stops the wheel: the other due timeouts still run, and a repeating
+ * timeout is scheduled again for its next period.
+ *
+ * @see Timeout
+ * @see TaskMeter
+ */
+public class TickWheel implements Runnable {
+
+    private static final int SLOTS = 256;
+    private static final int SLOT_BITS = 8;
+    private static final int CHILDREN = 64;
+    private static final int CHILD_BITS = 6;
+    private static final int LEVELS = 4;
+
+    private final JavaPlugin plugin;
+    private final Logger log;
+    private final Location anchor;
+    private final HandlerProfiler profiler;
+    private final String scope;
+    private final List<List<List<Timeout>>> levels;
+    private final Queue<Timeout> inbox;
+    private List<Timeout> spare;
+    private int tick;
+    private volatile int pending;
+    private volatile Thread runner;
+    private ScheduledTask task;
+
+    /**
+     * Class constructor, which needs the {@link JavaPlugin} instance to start the ticking {@link ScheduledTask}, the
+     * {@link Location} whose region owns the wheel, and the {@link HandlerProfiler} in which measured tasks are
+     * recorded.
+     *
+     * @param plugin The main plugin instance.
+     * @param anchor The location whose region scheduler ticks the wheel.
+     * @param profiler The profiler recording the duration of measured tasks.
+     * @param scope The profiler scope of the tasks, usually the name of the arena owning the wheel.
+     */
+    public TickWheel(JavaPlugin plugin, Location anchor, HandlerProfiler profiler, String scope) {
+        this.plugin = plugin;
+        this.log = plugin.getLogger();
+        this.anchor = anchor;
+        this.profiler = profiler;
+        this.scope = scope;
+        this.levels = new ArrayList<>(LEVELS);
+        this.inbox = new ConcurrentLinkedQueue<>();
+        this.spare = new ArrayList<>();
+        this.tick = 0;
+        this.pending = 0;
+        this.runner = null;
+        this.task = null;
+
+        for (int level = 0; level < LEVELS; ++level) {
+            final int size = level == 0 ? SLOTS : CHILDREN;
+            final List<List<Timeout>> slots = new ArrayList<>(size);
+
+            for (int i = 0; i < size; ++i) {
+                slots.add(new ArrayList<>());
+            }
+
+            this.levels.add(slots);
+        }
+    }
+
+    /**
+     * Starts ticking the wheel, if it was not already.
+     */
+    public void start() {
+        if (this.task == null) {
+            this.task = Bukkit.getRegionScheduler().runAtFixedRate(this.plugin, this.anchor,
+                    scheduled -> this.run(), 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops ticking the wheel. Pending timeouts are kept and will run once the wheel is started again.
+     */
+    public void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+
+    /**
+     * Schedules the provided task to run in the given amount of ticks.
+     *
+     * @param delay The delay, in ticks. Any value lower than {@code 1} runs the task on the next tick.
+     * @param task The task to run.
+     * @return The {@link Timeout} handle of the scheduled task, which can be cancelled.
+     */
+    public Timeout schedule(int delay, Runnable task) {
+        return this.schedule(delay, task, null);
+    }
+
+    /**
+     * Schedules the provided task to run in the given amount of ticks, accounting its cost in the given
+     * {@link TaskMeter}.
+     *
+     * @param delay The delay, in ticks. Any value lower than {@code 1} runs the task on the next tick.
+     * @param task The task to run.
+     * @param meter The meter accounting the task cost, or {@code null} if it is not measured.
+     * @return The {@link Timeout} handle of the scheduled task, which can be cancelled.
+     */
+    public Timeout schedule(int delay, Runnable task, TaskMeter meter) {
+        return this.submit(new Timeout(Math.max(1, delay), 0, task, meter, this.histogram(task, meter)));
+    }
+
+    /**
+     * Schedules the provided task to run in the given amount of ticks, and then every period until it is cancelled.
+     *
+     * @param delay The delay before the first run, in ticks. Any value lower than {@code 1} runs the task on the next
+     * tick.
+     * @param period The amount of ticks between two runs, at least {@code 1}.
+     * @param task The task to run.
+     * @param meter The meter accounting the task cost, or {@code null} if it is not measured.
+     * @return The {@link Timeout} handle of the scheduled task, which can be cancelled.
+     */
+    public Timeout repeat(int delay, int period, Runnable task, TaskMeter meter) {
+        return this.submit(new Timeout(Math.max(1, delay), Math.max(1, period), task, meter,
+                this.histogram(task, meter)));
+    }
+
+    /**
+     * Gets the amount of scheduled timeouts, including cancelled ones which have not been swept yet.
+     *
+     * @return The said amount.
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * Gets the amount of ticks the wheel has advanced since it was created, idle ticks excluded.
+     *
+     * @return The said amount.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Places the timeouts scheduled from other threads, advances the wheel by one tick, cascades the higher levels
+     * which have reached one of their slots, and runs every timeout whose deadline has been reached. An idle wheel,
+     * without any pending timeout, does nothing and keeps its tick: since every deadline is relative to it, it is only
+     * advanced when a timeout may be due.
+     */
+    @Override
+    public void run() {
+        for (Timeout timeout = this.inbox.poll(); timeout != null; timeout = this.inbox.poll()) {
+            this.add(timeout);
+        }
+
+        if (this.pending == 0) {
+            return;
+        }
+
+        ++this.tick;
+        this.runner = Thread.currentThread();
+
+        try {
+            this.advance();
+        } finally {
+            this.runner = null;
+        }
+    }
+
+    /**
+     * Cascades the higher levels which have reached one of their slots at the current tick, and runs every timeout of
+     * the current slot.
+     */
+    private void advance() {
+
+        for (int level = LEVELS - 1; level > 0; --level) {
+            final int shift = SLOT_BITS + (level - 1) * CHILD_BITS;
+
+            if ((this.tick & ((1 << shift) - 1)) == 0) {
+                this.cascade(this.detach(level, (this.tick >>> shift) & (CHILDREN - 1)));
+            }
+        }
+
+        final List<Timeout> due = this.detach(0, this.tick & (SLOTS - 1));
+
+        for (final Timeout timeout : due) {
+            if (timeout.isCancelled()) {
+                --this.pending;
+                continue;
+            }
+
+            try {
+                this.execute(timeout);
+            } catch (RuntimeException e) {
+                this.log.log(Level.SEVERE, "A task of the '" + this.scope + "' tick wheel threw an exception.", e);
+            }
+
+            if (timeout.period > 0 && !timeout.isCancelled()) {
+                timeout.deadline = this.tick + timeout.period;
+                this.place(timeout);
+            } else {
+                --this.pending;
+            }
+        }
+
+        this.release(due);
+    }
+
+    /**
+     * Detaches the timeouts of the given slot, which is replaced by the spare empty list. Thus, the timeouts placed
+     * while the detached ones are handled never land in the list being iterated, and no slot is ever copied.
+     *
+     * @param level The level of the slot.
+     * @param index The index of the slot in its level.
+     * @return The detached timeouts, to be given back with {@link #release(List)} once handled.
+     */
+    private List<Timeout> detach(int level, int index) {
+        final List<Timeout> detached = this.levels.get(level).set(index, this.spare);
+        this.spare = null;
+        return detached;
+    }
+
+    /**
+     * Empties the given detached timeouts and keeps their list as the spare one, to be swapped in by the next
+     * {@link #detach(int, int)}.
+     *
+     * @param detached The detached timeouts.
+     */
+    private void release(List<Timeout> detached) {
+        detached.clear();
+        this.spare = detached;
+    }
+
+    /**
+     * Hands the given timeout to the wheel. A timeout scheduled by a task of the wheel is placed right away, since it
+     * runs on the thread ticking the wheel. Otherwise, it is queued until the next tick: its deadline is computed from
+     * the same wheel tick in both cases, since the wheel only advances after draining the queue.
+     *
+     * @param timeout The scheduled timeout.
+     * @return The said timeout.
+     */
+    private Timeout submit(Timeout timeout) {
+        if (Thread.currentThread() == this.runner) {
+            this.add(timeout);
+        } else {
+            this.inbox.add(timeout);
+        }
+
+        return timeout;
+    }
+
+    /**
+     * Computes the deadline of the given newly scheduled timeout and places it in the wheel.
+     *
+     * @param timeout The timeout.
+     */
+    private void add(Timeout timeout) {
+        if (timeout.isCancelled()) {
+            return;
+        }
+
+        timeout.deadline = this.tick + timeout.delay;
+        this.place(timeout);
+        ++this.pending;
+    }
+
+    /**
+     * Gets the histogram of the {@link HandlerProfiler} recording the durations of the given task, if it is measured.
+     *
+     * @param task The task.
+     * @param meter The meter accounting the task cost, or {@code null} if it is not measured.
+     * @return The said histogram, or {@code null} if the task is not measured.
+     */
+    private Histogram histogram(Runnable task, TaskMeter meter) {
+        return meter == null ? null : this.profiler.task(this.scope, task);
+    }
+
+    /**
+     * Runs the given timeout, measuring its duration if it has a {@link TaskMeter}.
+     *
+     * @param timeout The timeout to run.
+     */
+    private void execute(Timeout timeout) {
+        if (timeout.meter == null) {
+            timeout.run();
+            return;
+        }
+
+        final long start = System.nanoTime();
+
+        try {
+            timeout.run();
+        } finally {
+            final long duration = System.nanoTime() - start;
+
+            timeout.meter.record(this.tick, duration);
+            timeout.histogram.record(duration);
+        }
+    }
+
+    /**
+     * Moves every timeout of the given detached slot down to the level matching its remaining delay, dropping
+     * cancelled ones.
+     *
+     * @param slot The detached slot to cascade.
+     */
+    private void cascade(List<Timeout> slot) {
+        for (final Timeout timeout : slot) {
+            if (timeout.isCancelled()) {
+                --this.pending;
+            } else {
+                this.place(timeout);
+            }
+        }
+
+        this.release(slot);
+    }
+
+    /**
+     * Puts the given timeout in the slot of the lowest level able to hold its remaining delay.
+     *
+     * @param timeout The timeout to place.
+     */
+    private void place(Timeout timeout) {
+        final int remaining = timeout.deadline - this.tick;
+
+        if (remaining < SLOTS) {
+            this.levels.get(0).get(timeout.deadline & (SLOTS - 1)).add(timeout);
+            return;
+        }
+
+        for (int level = 1; level < LEVELS; ++level) {
+            final int shift = SLOT_BITS + (level - 1) * CHILD_BITS;
+
+            if (level == LEVELS - 1 || remaining < 1 << (shift + CHILD_BITS)) {
+                this.levels.get(level).get((timeout.deadline >>> shift) & (CHILDREN - 1)).add(timeout);
+                return;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package fr.tartur.games.runningegg.scheduler;
+
+import fr.tartur.games.runningegg.profiler.Histogram;
+
+/**
+ * Class representing a task scheduled in a {@link TickWheel}, which can be cancelled before its deadline. A repeating
+ * timeout runs again every period until it is cancelled. A timeout can be cancelled from any thread.
+ *
+ * @see TickWheel#schedule(int, Runnable)
+ * @see TickWheel#repeat(int, int, Runnable, TaskMeter)
+ */
+public final class Timeout {
+
+    final int delay;
+    final int period;
+    final TaskMeter meter;
+    final Histogram histogram;
+    private final Runnable task;
+    int deadline;
+    private volatile boolean cancelled;
+
+    /**
+     * Class constructor, which needs the amount of ticks after which the task has to run. The matching wheel tick is
+     * only computed once the timeout is placed in its {@link TickWheel}.
+     *
+     * @param delay The said amount of ticks.
+     * @param period The amount of ticks between two runs, or {@code 0} if the task only runs once.
+     * @param task The task to run.
+     * @param meter The meter accounting the task cost, or {@code null} if it is not measured.
+     * @param histogram The histogram recording the task durations, or {@code null} if it is not measured.
+     */
+    Timeout(int delay, int period, Runnable task, TaskMeter meter, Histogram histogram) {
+        this.delay = delay;
+        this.deadline = 0;
+        this.period = period;
+        this.task = task;
+        this.meter = meter;
+        this.histogram = histogram;
+        this.cancelled = false;
+    }
+
+    /**
+     * Cancels the task, which will never run again.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Checks whether the task has been cancelled.
+     *
+     * @return {@code true} if the task was cancelled, {@code false} otherwise.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Runs the task. A task which does not repeat is marked as cancelled, so that it can never run twice.
+     */
+    void run() {
+        if (this.period <= 0) {
+            this.cancelled = true;
+        }
+
+        this.task.run();
+    }
+
+}
@@ -0,0 +1,163 @@
+package fr.tartur.games.runningegg.simulation;
+
+import fr.tartur.games.runningegg.api.events.PlayerHitsWorldBorderEvent;
+import fr.tartur.games.runningegg.game.Game;
+import fr.tartur.games.runningegg.game.GamePlayers;
+import fr.tartur.games.runningegg.game.GameRole;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Egg;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.event.entity.ProjectileLaunchEvent;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Class which plays the simulated players of a running {@link Game}, by firing the same events as real players would:
+ * eggs hitting players or blocks, prays escaping through the border and players leaving the server.
+ */
+public class BotDriver {
+
+    /**
+     * Enumeration which represents the way the simulated players behave.
+     */
+    public enum Mode {
+        /**
+         * The hunter hits one pray every {@link #SCRIPT_PERIOD} ticks, until a single player remains.
+         */
+        SCRIPTED,
+        /**
+         * Every tick, each action happens with its own probability.
+         */
+        RANDOM
+    }
+
+    private static final int SCRIPT_PERIOD = 40;
+    private static final double HIT_CHANCE = 0.02d;
+    private static final double MISS_CHANCE = 0.02d;
+    private static final double ESCAPE_CHANCE = 0.01d;
+    private static final double QUIT_CHANCE = 0.001d;
+
+    private final Mode mode;
+    private final Random random;
+    private int chasingTicks;
+    private int quits;
+
+    /**
+     * Class constructor, which needs the {@link Mode} of the simulated players and the seed of their random choices.
+     *
+     * @param mode The said mode.
+     * @param seed The said seed.
+     */
+    public BotDriver(Mode mode, long seed) {
+        this.mode = mode;
+        this.random = new Random(seed);
+        this.chasingTicks = 0;
+        this.quits = 0;
+    }
+
+    /**
+     * Plays one tick of the provided {@link Game}, which must be in the {@link Game.State#CHASING} state.
+     *
+     * @param game The game.
+     */
+    public void tick(Game game) {
+        final GamePlayers players = game.getPlayers();
+        final Player hunter = this.hunter(players);
+        final List<Player> prays = new ArrayList<>(players.getPrays());
+
+        ++this.chasingTicks;
+
+        if (hunter == null || prays.isEmpty()) {
+            return;
+        }
+
+        if (this.mode == Mode.SCRIPTED) {
+            if (this.chasingTicks % SCRIPT_PERIOD == 0) {
+                this.hit(hunter, prays.getFirst());
+            }
+
+            return;
+        }
+
+        final double roll = this.random.nextDouble();
+
+        if (roll < HIT_CHANCE) {
+            this.hit(hunter, prays.get(this.random.nextInt(prays.size())));
+        } else if (roll < HIT_CHANCE + MISS_CHANCE) {
+            this.miss(hunter);
+        } else if (roll < HIT_CHANCE + MISS_CHANCE + ESCAPE_CHANCE) {
+            new PlayerHitsWorldBorderEvent(prays.get(this.random.nextInt(prays.size()))).callEvent();
+        } else if (roll < HIT_CHANCE + MISS_CHANCE + ESCAPE_CHANCE + QUIT_CHANCE) {
+            final List<Player> playing = new ArrayList<>(players.getPlaying());
+            final Player leaving = playing.get(this.random.nextInt(playing.size()));
+
+            if (leaving instanceof final PlayerMock mock) {
+                mock.disconnect();
+                ++this.quits;
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of simulated players which left the server, and have to be replaced.
+     *
+     * @return The said amount.
+     */
+    public int takeQuits() {
+        final int taken = this.quits;
+        this.quits = 0;
+        return taken;
+    }
+
+    /**
+     * Throws an egg from the provided hunter, which hits the given pray.
+     *
+     * @param hunter The hunter.
+     * @param pray The pray.
+     */
+    private void hit(Player hunter, Player pray) {
+        final Egg egg = this.launch(hunter);
+        new ProjectileHitEvent(egg, pray, null, null).callEvent();
+    }
+
+    /**
+     * Throws an egg from the provided hunter, which hits the block under its feet.
+     *
+     * @param hunter The hunter.
+     */
+    private void miss(Player hunter) {
+        final Egg egg = this.launch(hunter);
+        new ProjectileHitEvent(egg, null, hunter.getLocation().getBlock(), BlockFace.UP).callEvent();
+    }
+
+    /**
+     * Spawns an egg shot by the provided hunter, and calls the matching {@link ProjectileLaunchEvent} so that the egg
+     * is bound to the current round, as a real throw would.
+     *
+     * @param hunter The hunter.
+     * @return The said egg.
+     */
+    private Egg launch(Player hunter) {
+        final Egg egg = hunter.getWorld().spawn(hunter.getLocation(), Egg.class, thrown -> thrown.setShooter(hunter));
+
+        new ProjectileLaunchEvent(egg).callEvent();
+        return egg;
+    }
+
+    /**
+     * Gets the {@link GameRole#HUNTER} of the provided players.
+     *
+     * @param players The players of the game.
+     * @return The hunter, or {@code null} if there is none.
+     */
+    private Player hunter(GamePlayers players) {
+        final Player[] hunter = new Player[1];
+        players.forEach(GameRole.HUNTER, player -> hunter[0] = player);
+        return hunter[0];
+    }
+
+}
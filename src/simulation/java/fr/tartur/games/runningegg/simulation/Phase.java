@@ -0,0 +1,38 @@
+package fr.tartur.games.runningegg.simulation;
+
+import fr.tartur.games.runningegg.game.Arena;
+import fr.tartur.games.runningegg.game.Game;
+
+/**
+ * Enumeration which represents the phases of an {@link Arena} measured by the simulation: waiting for players, and
+ * then every {@link Game.State} of its running game.
+ */
+public enum Phase {
+    WAITING,
+    LOADING,
+    CHOOSING,
+    CHASING,
+    WIN;
+
+    /**
+     * Gets the phase the provided {@link Arena} is currently in.
+     *
+     * @param arena The arena.
+     * @return The said phase.
+     */
+    public static Phase of(Arena arena) {
+        final Game game = arena.getGame();
+
+        if (game == null) {
+            return WAITING;
+        }
+
+        return switch (game.getState()) {
+            case LOADING -> LOADING;
+            case CHOOSING -> CHOOSING;
+            case CHASING -> CHASING;
+            case WIN -> WIN;
+        };
+    }
+
+}
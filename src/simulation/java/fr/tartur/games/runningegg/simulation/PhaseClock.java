@@ -0,0 +1,58 @@
+package fr.tartur.games.runningegg.simulation;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Class which accumulates, for each {@link Phase}, how many times it was entered, how many ticks it lasted and how
+ * much wall time the server spent ticking it.
+ */
+public class PhaseClock {
+
+    private final Map<Phase, long[]> totals;
+    private Phase current;
+
+    /**
+     * Class constructor, which starts with every counter at zero.
+     */
+    public PhaseClock() {
+        this.totals = new EnumMap<>(Phase.class);
+        this.current = null;
+
+        for (final Phase phase : Phase.values()) {
+            this.totals.put(phase, new long[3]);
+        }
+    }
+
+    /**
+     * Records a tick spent in the given {@link Phase}.
+     *
+     * @param phase The phase the arena was in when the tick started.
+     * @param nanos The wall time the tick took, in nanoseconds.
+     */
+    public void record(Phase phase, long nanos) {
+        final long[] total = this.totals.get(phase);
+
+        if (phase != this.current) {
+            ++total[0];
+            this.current = phase;
+        }
+
+        ++total[1];
+        total[2] += nanos;
+    }
+
+    /**
+     * Prints one line per {@link Phase} to the provided stream.
+     *
+     * @param out The stream.
+     */
+    public void print(PrintStream out) {
+        out.printf("%-10s %8s %10s %12s %12s%n", "phase", "entries", "ticks", "wall (ms)", "us/tick");
+
+        this.totals.forEach((phase, total) -> out.printf("%-10s %8d %10d %12.2f %12.2f%n", phase, total[0], total[1],
+                total[2] / 1_000_000d, total[1] == 0 ? 0d : total[2] / 1_000d / total[1]));
+    }
+
+}
@@ -0,0 +1,163 @@
+package fr.tartur.games.runningegg.simulation;
+
+import fr.tartur.games.runningegg.Core;
+import fr.tartur.games.runningegg.game.Arena;
+import fr.tartur.games.runningegg.game.Game;
+import fr.tartur.games.runningegg.scheduler.TaskMeter;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.ItemFrame;
+import org.bukkit.plugin.PluginManager;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.world.WorldMock;
+
+import java.util.Locale;
+
+/**
+ * Headless simulation of whole Running Egg games, played by simulated players on a mocked server. The real
+ * {@link Core} plugin is loaded with a single arena, then the simulated players join it and play the requested amount
+ * of games. Once done, the amount of ticks and the wall time spent in each {@link Phase} are printed, along with the
+ * cost accounted by the arena {@link TaskMeter}.
+ * <p>
+ * Arguments are given as {@code key=value} pairs: {@code players} (default {@value #DEFAULT_PLAYERS}), {@code games}
+ * (default {@value #DEFAULT_GAMES}), {@code mode} ({@code random} or {@code scripted}), {@code seed} and
+ * {@code max_ticks} (default {@value #DEFAULT_MAX_TICKS}), which stops a simulation which would never end.
+ */
+public final class Simulation {
+
+    private static final int DEFAULT_PLAYERS = 8;
+    private static final int DEFAULT_GAMES = 10;
+    private static final long DEFAULT_MAX_TICKS = 1_000_000L;
+    private static final String ARENA = "simulation";
+    private static final double SPAWN_RADIUS = 5d;
+
+    private Simulation() {
+    }
+
+    /**
+     * Runs the simulation.
+     *
+     * @param args The simulation arguments, as {@code key=value} pairs.
+     */
+    public static void main(String[] args) {
+        int players = DEFAULT_PLAYERS;
+        int games = DEFAULT_GAMES;
+        long maxTicks = DEFAULT_MAX_TICKS;
+        long seed = 0L;
+        BotDriver.Mode mode = BotDriver.Mode.RANDOM;
+
+        for (final String arg : args) {
+            final String[] pair = arg.split("=", 2);
+
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Malformed argument '" + arg + "', expected key=value.");
+            }
+
+            switch (pair[0]) {
+                case "players" -> players = Integer.parseInt(pair[1]);
+                case "games" -> games = Integer.parseInt(pair[1]);
+                case "max_ticks" -> maxTicks = Long.parseLong(pair[1]);
+                case "seed" -> seed = Long.parseLong(pair[1]);
+                case "mode" -> mode = BotDriver.Mode.valueOf(pair[1].toUpperCase(Locale.ROOT));
+                default -> throw new IllegalArgumentException("Unknown argument '" + pair[0] + "'.");
+            }
+        }
+
+        final ServerMock server = MockBukkit.mock();
+
+        try {
+            run(server, players, games, maxTicks, new BotDriver(mode, seed));
+        } finally {
+            MockBukkit.unmock();
+        }
+    }
+
+    /**
+     * Loads the plugin with a single arena of the given size, and plays games until the requested amount has ended.
+     *
+     * @param server The mocked server.
+     * @param players The amount of simulated players.
+     * @param games The amount of games to play.
+     * @param maxTicks The amount of ticks after which the simulation stops anyway.
+     * @param driver The driver playing the simulated players.
+     */
+    private static void run(ServerMock server, int players, int games, long maxTicks, BotDriver driver) {
+        final WorldMock world = server.addSimpleWorld(ARENA);
+        final Location spin = new Location(world, 0.5d, 65d, 0.5d);
+        final Core core = MockBukkit.load(Core.class);
+
+        world.spawn(spin, ItemFrame.class);
+        configure(core.getConfig(), spin, players);
+
+        final PluginManager manager = server.getPluginManager();
+        manager.disablePlugin(core);
+        manager.enablePlugin(core);
+
+        final Arena arena = core.getArenas().get(ARENA)
+                .orElseThrow(() -> new IllegalStateException("The simulation arena could not be loaded."));
+        final PhaseClock clock = new PhaseClock();
+        final long start = System.nanoTime();
+        int joined = 0;
+        int ended = 0;
+        long ticks = 0L;
+        Game previous = null;
+
+        for (; joined < players; ++joined) {
+            server.addPlayer("bot" + joined);
+        }
+
+        while (ended < games && ticks < maxTicks) {
+            final Phase phase = Phase.of(arena);
+            final long tickStart = System.nanoTime();
+
+            if (phase == Phase.CHASING) {
+                driver.tick(arena.getGame());
+            }
+
+            server.getScheduler().performOneTick();
+            clock.record(phase, System.nanoTime() - tickStart);
+            ++ticks;
+
+            for (int quits = driver.takeQuits(); quits > 0; --quits) {
+                server.addPlayer("bot" + joined++);
+            }
+
+            if (previous != null && arena.getGame() != previous) {
+                ++ended;
+            }
+
+            previous = arena.getGame();
+        }
+
+        final TaskMeter meter = arena.getMeter();
+
+        System.out.printf("%d games with %d players in %d ticks (%.2f ms)%n", ended, players, ticks,
+                (System.nanoTime() - start) / 1_000_000d);
+        clock.print(System.out);
+        System.out.printf("arena tasks: %d runs over %d ticks, %d us%n", meter.getRuns(), meter.getTicks(),
+                meter.getMicros());
+    }
+
+    /**
+     * Writes a single arena to the provided configuration, with one spawn point per player spread in a circle around
+     * the spin location.
+     *
+     * @param config The plugin configuration.
+     * @param spin The spin location.
+     * @param players The amount of players.
+     */
+    private static void configure(FileConfiguration config, Location spin, int players) {
+        final String path = "arenas." + ARENA + ".spawn_points.";
+
+        config.set("arenas." + ARENA + ".min_players", players);
+        config.set(path + "spin", spin);
+
+        for (int i = 0; i < players; ++i) {
+            final double angle = 2d * Math.PI * i / players;
+            config.set(path + "p" + i, spin.clone().add(Math.cos(angle) * SPAWN_RADIUS, 0d,
+                    Math.sin(angle) * SPAWN_RADIUS));
+        }
+    }
+
+}
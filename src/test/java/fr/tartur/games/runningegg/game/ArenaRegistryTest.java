@@ -0,0 +1,163 @@
+package fr.tartur.games.runningegg.game;
+
+import fr.tartur.games.runningegg.Core;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the load buckets of the {@link ArenaRegistry}, with arenas whose countdown never starts.
+ */
+class ArenaRegistryTest {
+
+    private ServerMock server;
+    private World world;
+    private Core core;
+
+    /**
+     * Mocks a server and loads the plugin without any arena.
+     */
+    @BeforeEach
+    void setUp() {
+        this.server = MockBukkit.mock();
+        this.world = this.server.addSimpleWorld("arenas");
+        this.core = MockBukkit.load(Core.class);
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * The most loaded arena is the open one with the most waiting players, and it follows joins and leaves.
+     */
+    @Test
+    void findsTheMostLoadedArena() {
+        final Arena small = this.arena("small", 2);
+        final Arena large = this.arena("large", 4);
+        final ArenaRegistry registry = new ArenaRegistry(List.of(small, large));
+
+        this.join(registry, large, 2);
+        this.join(registry, small, 1);
+
+        assertEquals(Optional.of(large), registry.mostLoaded());
+
+        this.leave(registry, large, 2);
+
+        assertEquals(Optional.of(small), registry.mostLoaded());
+    }
+
+    /**
+     * A full arena is never picked, even if it is the most loaded one.
+     */
+    @Test
+    void skipsFullArenas() {
+        final Arena small = this.arena("small", 2);
+        final Arena large = this.arena("large", 4);
+        final ArenaRegistry registry = new ArenaRegistry(List.of(small, large));
+
+        this.join(registry, small, 2);
+        this.join(registry, large, 1);
+
+        assertFalse(small.isOpen());
+        assertEquals(Optional.of(large), registry.mostLoaded());
+
+        this.join(registry, large, 3);
+
+        assertTrue(registry.mostLoaded().isEmpty());
+    }
+
+    /**
+     * An arena running a game is never picked, and is picked again once its game has ended.
+     */
+    @Test
+    void skipsRunningArenas() {
+        final Arena running = this.arena("running", 4);
+        final Arena idle = this.arena("idle", 4);
+        final ArenaRegistry registry = new ArenaRegistry(List.of(running, idle));
+
+        this.join(registry, running, 2);
+        running.setGame(new Game(this.core, running, new Game.Data(List.of(), running.getSettings()),
+                new BorderTracker(BorderTracker.DEFAULT_MAX_SPEED), new TeleportService(this.core,
+                this.core.getProfiler())));
+        registry.update(running);
+
+        assertEquals(Optional.of(idle), registry.mostLoaded());
+        assertEquals(Optional.of(running), registry.anyRunning());
+
+        running.setGame(null);
+        registry.update(running);
+
+        assertEquals(Optional.of(running), registry.mostLoaded());
+        assertTrue(registry.anyRunning().isEmpty());
+    }
+
+    /**
+     * Builds an {@link Arena} with the given amount of spawn points, needing one more player than it can hold to
+     * start its countdown.
+     *
+     * @param name The arena name.
+     * @param capacity The amount of spawn points.
+     * @return The said arena.
+     */
+    private Arena arena(String name, int capacity) {
+        final Location spin = new Location(this.world, 0.5d, 65d, 0.5d);
+        final List<Location> spawns = new ArrayList<>();
+
+        for (int i = 0; i < capacity; ++i) {
+            spawns.add(spin.clone().add(i + 1d, 0d, 0d));
+        }
+
+        return new Arena(this.core, name, new GameSettings(spawns, spin, capacity + 1,
+                GameSettings.DEFAULT_BORDER_SIZE, SpinSchedule.DEFAULT_EASING, false, SpinRender.FRAME));
+    }
+
+    /**
+     * Makes the given amount of new players join the waiting room of the provided {@link Arena}.
+     *
+     * @param registry The registry holding the arena.
+     * @param arena The arena.
+     * @param players The amount of players.
+     */
+    private void join(ArenaRegistry registry, Arena arena, int players) {
+        for (int i = 0; i < players; ++i) {
+            arena.getWaitingRoom().join(this.server.addPlayer());
+        }
+
+        registry.update(arena);
+    }
+
+    /**
+     * Makes the given amount of players leave the waiting room of the provided {@link Arena}.
+     *
+     * @param registry The registry holding the arena.
+     * @param arena The arena.
+     * @param players The amount of players.
+     */
+    private void leave(ArenaRegistry registry, Arena arena, int players) {
+        this.server.getOnlinePlayers().stream()
+                .filter(player -> arena.getWaitingRoom().contains(player))
+                .limit(players)
+                .toList()
+                .forEach(player -> arena.getWaitingRoom().leave(player));
+
+        registry.update(arena);
+    }
+
+}
@@ -0,0 +1,336 @@
+package fr.tartur.games.runningegg.game;
+
+import fr.tartur.games.runningegg.Core;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Rotation;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Egg;
+import org.bukkit.entity.ItemFrame;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.event.entity.ProjectileLaunchEvent;
+import org.bukkit.plugin.PluginManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.mockbukkit.mockbukkit.world.WorldMock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Whole games played on a mocked server: the real {@link Core} plugin is loaded with a single arena, which its players
+ * join before playing every round until a winner is picked.
+ * <p>
+ * Since a leaving player is removed from its game on the next tick of the arena wheel, the tests run the wheel right
+ * after a player leaves, so that the state of the game can be checked before anything else happens.
+ */
+class GameTest {
+
+    private static final String ARENA = "test";
+    private static final int PLAYERS = 4;
+    private static final double SPAWN_RADIUS = 5d;
+    private static final NamespacedKey FREEZE_KEY = new NamespacedKey("runningegg", "freeze");
+
+    /**
+     * Amount of ticks after which a step of a game which was expected to happen is considered as never happening. It
+     * covers the waiting room countdown, which is the longest step.
+     */
+    private static final int MAX_TICKS = 2_000;
+
+    private ServerMock server;
+    private Arena arena;
+    private ItemFrame frame;
+
+    /**
+     * Mocks a server and loads the plugin with a single arena of {@value #PLAYERS} spawn points, then makes as many
+     * players join it.
+     */
+    @BeforeEach
+    void setUp() {
+        this.server = MockBukkit.mock();
+
+        final WorldMock world = this.server.addSimpleWorld(ARENA);
+        final Location spin = new Location(world, 0.5d, 65d, 0.5d);
+        final Core core = MockBukkit.load(Core.class);
+
+        this.frame = world.spawn(spin, ItemFrame.class);
+        configure(core.getConfig(), spin);
+
+        final PluginManager manager = this.server.getPluginManager();
+        manager.disablePlugin(core);
+        manager.enablePlugin(core);
+
+        this.arena = core.getArenas().get(ARENA).orElseThrow();
+
+        for (int i = 0; i < PLAYERS; ++i) {
+            this.server.addPlayer();
+        }
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Every round starts by spinning the arrow, which stops on the rotation matching the spawn point of the hunter,
+     * then lets the players chase once they have been reset; each hit pray loses, and the last player playing wins
+     * before the arena opens again.
+     */
+    @Test
+    void playsUntilAWinnerIsPicked() {
+        final Game game = this.awaitChasing(1);
+
+        for (int round = 1; round < PLAYERS; ++round) {
+            if (round > 1) {
+                assertEquals(Game.State.CHOOSING, game.getState());
+                this.awaitChasing(round);
+            }
+
+            this.assertReset(game);
+
+            final Player hunter = hunter(game);
+
+            assertEquals(Rotation.values()[this.spawnIndex(hunter)], this.frame.getRotation(),
+                    "the arrow does not point at the spawn point of the hunter");
+            final Player pray = game.getPlayers().getPrays().iterator().next();
+
+            this.hit(hunter, pray);
+
+            assertEquals(GameMode.SPECTATOR, pray.getGameMode());
+            assertEquals(PLAYERS - round, game.getPlayers().countPlaying());
+        }
+
+        assertEquals(Game.State.WIN, game.getState());
+
+        final Player winner = game.getPlayers().getPlaying().iterator().next();
+
+        assertEquals(GameMode.ADVENTURE, winner.getGameMode());
+
+        this.tickUntil(() -> this.arena.getGame() != game, "the game never ended");
+
+        assertEquals(PLAYERS - 1, this.arena.getFrame().getSpins());
+    }
+
+    /**
+     * A hunter leaving while the arrow is still spinning to choose it starts a new round, whose hunter is picked among
+     * the players left.
+     */
+    @Test
+    void restartsTheRoundWhenTheHunterLeavesWhileTheArrowSpins() {
+        this.tickUntil(() -> this.arena.getGame() != null && this.arena.getGame().getState() == Game.State.CHOOSING
+                && this.arena.getFrame().getSpins() == 1, "the arrow never spun");
+
+        final Game game = this.arena.getGame();
+        final Player leaving = hunter(game);
+
+        ((PlayerMock) leaving).disconnect();
+        this.arena.getWheel().run();
+
+        assertEquals(Game.State.CHOOSING, game.getState());
+        assertFalse(game.isPresent(leaving));
+
+        assertSame(game, this.awaitChasing(2));
+        assertNotEquals(leaving, hunter(game));
+        assertEquals(PLAYERS - 2, game.getPlayers().countPrays());
+        this.assertReset(game);
+    }
+
+    /**
+     * Players leaving while the arena is still loading are counted once it is loaded: the last player left wins
+     * without any round being played.
+     */
+    @Test
+    void endsTheGameWhenPlayersLeaveWhileLoading() {
+        final Game game = this.awaitLoading();
+        final List<Player> players = new ArrayList<>(game.getPlayers().getPlaying());
+        final Player winner = players.removeLast();
+
+        players.forEach(player -> ((PlayerMock) player).disconnect());
+        this.arena.getWheel().run();
+
+        assertEquals(Game.State.LOADING, game.getState());
+        assertEquals(1, game.getPlayers().countPlaying());
+
+        this.tickUntil(() -> game.getState() == Game.State.WIN, "the game never ended");
+
+        assertEquals(0, this.arena.getFrame().getSpins());
+        assertEquals(GameMode.ADVENTURE, winner.getGameMode());
+
+        this.tickUntil(() -> this.arena.getGame() != game, "the game never ended");
+    }
+
+    /**
+     * A game every player left while the arena was still loading is cancelled.
+     */
+    @Test
+    void cancelsTheGameWhenEveryPlayerLeavesWhileLoading() {
+        final Game game = this.awaitLoading();
+
+        List.copyOf(game.getPlayers().getPlaying()).forEach(player -> ((PlayerMock) player).disconnect());
+        this.arena.getWheel().run();
+
+        assertEquals(Game.State.LOADING, game.getState());
+        assertEquals(0, game.getPlayers().countPlaying());
+
+        this.tickUntil(() -> this.arena.getGame() != game, "the game never ended");
+
+        assertEquals(Game.State.WIN, game.getState());
+        assertEquals(0, this.arena.getFrame().getSpins());
+    }
+
+    /**
+     * Ticks the server until a game starts, and checks that its arena is still being loaded.
+     *
+     * @return The loading game.
+     */
+    private Game awaitLoading() {
+        this.tickUntil(() -> this.arena.getGame() != null, "the game never started");
+
+        final Game game = this.arena.getGame();
+
+        assertEquals(Game.State.LOADING, game.getState());
+        return game;
+    }
+
+    /**
+     * Ticks the server until a game reaches the {@link Game.State#CHASING} state of the given round.
+     *
+     * @param round The round, which is also the amount of arrow spins since the game started.
+     * @return The running game.
+     */
+    private Game awaitChasing(int round) {
+        this.tickUntil(() -> this.arena.getGame() != null && this.arena.getGame().getState() == Game.State.CHASING
+                && this.arena.getFrame().getSpins() == round, "round " + round + " never started");
+
+        return this.arena.getGame();
+    }
+
+    /**
+     * Checks that every playing player has been reset at the start of the round: healed, fed, emptied, in
+     * {@link GameMode#ADVENTURE} on its own spawn point, and able to move again now that the hunter is known.
+     *
+     * @param game The running game.
+     */
+    private void assertReset(Game game) {
+        final List<Location> spawns = new ArrayList<>(this.arena.getSettings().playerLocations());
+
+        for (final Player player : game.getPlayers().getPlaying()) {
+            final AttributeInstance speed = player.getAttribute(Attribute.MOVEMENT_SPEED);
+
+            assertEquals(20d, player.getHealth());
+            assertEquals(20, player.getFoodLevel());
+            assertEquals(GameMode.ADVENTURE, player.getGameMode());
+            assertTrue(player.getInventory().isEmpty());
+            assertTrue(spawns.removeIf(spawn -> spawn.distanceSquared(player.getLocation()) < 1e-6),
+                    player.getName() + " is not on a free spawn point");
+            assertTrue(speed == null || speed.getModifier(FREEZE_KEY) == null, player.getName() + " is frozen");
+        }
+    }
+
+    /**
+     * Finds the index of the spawn point the provided {@link Player} stands on, in the order they are written in the
+     * arena configuration.
+     *
+     * @param player The player.
+     * @return The said index.
+     */
+    private int spawnIndex(Player player) {
+        final List<Location> spawns = this.arena.getSettings().playerLocations();
+
+        for (int i = 0; i < spawns.size(); ++i) {
+            if (spawns.get(i).distanceSquared(player.getLocation()) < 1e-6) {
+                return i;
+            }
+        }
+
+        throw new AssertionError(player.getName() + " is not on any spawn point");
+    }
+
+    /**
+     * Makes the given hunter throw an egg at the given pray.
+     *
+     * @param hunter The hunter.
+     * @param pray The pray.
+     */
+    private void hit(Player hunter, Player pray) {
+        final Egg egg = hunter.getWorld().spawn(hunter.getLocation(), Egg.class, thrown -> thrown.setShooter(hunter));
+
+        new ProjectileLaunchEvent(egg).callEvent();
+        new ProjectileHitEvent(egg, pray, null, null).callEvent();
+    }
+
+    /**
+     * Ticks the server until the given condition is met.
+     *
+     * @param condition The condition.
+     * @param failure The message of the failure raised if the condition is still not met after {@value #MAX_TICKS}
+     * ticks.
+     */
+    private void tickUntil(BooleanSupplier condition, String failure) {
+        for (int tick = 0; tick < MAX_TICKS; ++tick) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+
+            this.server.getScheduler().performOneTick();
+        }
+
+        assertTrue(condition.getAsBoolean(), failure);
+    }
+
+    /**
+     * Finds the {@link GameRole#HUNTER} of the provided game.
+     *
+     * @param game The game.
+     * @return The said hunter.
+     */
+    private static Player hunter(Game game) {
+        final Player[] hunter = new Player[1];
+
+        game.getPlayers().forEach(GameRole.HUNTER, player -> hunter[0] = player);
+        assertNotNull(hunter[0]);
+
+        return hunter[0];
+    }
+
+    /**
+     * Writes the test arena to the provided configuration, with one spawn point per player spread in a circle around
+     * the spin location.
+     *
+     * @param config The plugin configuration.
+     * @param spin The spin location.
+     */
+    private static void configure(FileConfiguration config, Location spin) {
+        final String path = "arenas." + ARENA + ".spawn_points.";
+
+        config.set("arenas." + ARENA + ".min_players", PLAYERS);
+        config.set(path + "spin", spin);
+
+        for (int i = 0; i < PLAYERS; ++i) {
+            final double angle = 2d * Math.PI * i / PLAYERS;
+            config.set(path + "p" + i, spin.clone().add(Math.cos(angle) * SPAWN_RADIUS, 0d,
+                    Math.sin(angle) * SPAWN_RADIUS));
+        }
+    }
+
+}
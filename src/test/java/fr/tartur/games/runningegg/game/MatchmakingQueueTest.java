@@ -0,0 +1,222 @@
+package fr.tartur.games.runningegg.game;
+
+import fr.tartur.games.runningegg.Core;
+import fr.tartur.games.runningegg.api.events.GameStartEvent;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the order in which the {@link MatchmakingQueue} fills the open arenas, and of the countdown of the waiting
+ * rooms it fills.
+ */
+class MatchmakingQueueTest {
+
+    /**
+     * Wheel tick at which the countdown of a waiting room ends, its first step running on the first tick.
+     */
+    private static final int COUNTDOWN = 30 * 20 + 1;
+
+    private ServerMock server;
+    private World world;
+    private Core core;
+
+    /**
+     * Mocks a server and loads the plugin without any arena.
+     */
+    @BeforeEach
+    void setUp() {
+        this.server = MockBukkit.mock();
+        this.world = this.server.addSimpleWorld("arenas");
+        this.core = MockBukkit.load(Core.class);
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * The queued players are assigned in their arrival order, the most loaded arena being filled up to its capacity
+     * before the next one, and the players left over stay queued.
+     */
+    @Test
+    void fillsTheMostLoadedArenaFirst() {
+        final Arena large = this.arena("large", 3);
+        final Arena small = this.arena("small", 2);
+        final ArenaRegistry registry = new ArenaRegistry(List.of(large, small));
+        final MatchmakingQueue queue = new MatchmakingQueue(registry);
+        final List<Player> players = new ArrayList<>();
+        final Map<Player, Arena> assigned = new LinkedHashMap<>();
+
+        small.getWaitingRoom().join(this.server.addPlayer());
+        registry.update(small);
+
+        for (int i = 0; i < 5; ++i) {
+            final Player player = this.server.addPlayer();
+
+            players.add(player);
+            queue.add(player);
+        }
+
+        queue.drain((player, arena) -> {
+            arena.getWaitingRoom().join(player);
+            assigned.put(player, arena);
+        });
+
+        assertEquals(players.subList(0, 4), List.copyOf(assigned.keySet()));
+        assertEquals(List.of(small, large, large, large), List.copyOf(assigned.values()));
+        assertEquals(1, queue.size());
+        assertTrue(queue.contains(players.get(4)));
+        assertTrue(registry.mostLoaded().isEmpty());
+    }
+
+    /**
+     * A player is only queued once, and a removed player is never assigned.
+     */
+    @Test
+    void queuesPlayersOnce() {
+        final Arena arena = this.arena("arena", 4);
+        final MatchmakingQueue queue = new MatchmakingQueue(new ArenaRegistry(List.of(arena)));
+        final Player first = this.server.addPlayer();
+        final Player second = this.server.addPlayer();
+        final List<Player> assigned = new ArrayList<>();
+
+        queue.add(first);
+        queue.add(second);
+        queue.add(first);
+
+        assertEquals(2, queue.size());
+        assertTrue(queue.remove(second));
+        assertFalse(queue.remove(second));
+
+        queue.drain((player, target) -> {
+            target.getWaitingRoom().join(player);
+            assigned.add(player);
+        });
+
+        assertEquals(List.of(first), assigned);
+        assertEquals(0, queue.size());
+    }
+
+    /**
+     * A player leaving a waiting room keeps its countdown running as long as enough players are left, and stops it
+     * otherwise.
+     */
+    @Test
+    void keepsTheCountdownWhileEnoughPlayersWait() {
+        final Arena arena = this.arena("arena", 3, 2);
+        final StartListener listener = new StartListener();
+        final List<Player> players = new ArrayList<>();
+
+        this.server.getPluginManager().registerEvents(listener, this.core);
+
+        for (int i = 0; i < 3; ++i) {
+            final Player player = this.server.addPlayer();
+
+            players.add(player);
+            arena.getWaitingRoom().join(player);
+        }
+
+        this.tick(arena, 200);
+        arena.getWaitingRoom().leave(players.getFirst());
+        this.tick(arena, COUNTDOWN - 200);
+
+        assertEquals(List.of(COUNTDOWN), listener.ticks);
+        assertEquals(List.of(players.get(1).getUniqueId(), players.get(2).getUniqueId()), listener.players);
+
+        arena.getWaitingRoom().join(players.get(0));
+        arena.getWaitingRoom().join(players.get(1));
+        this.tick(arena, 200);
+        arena.getWaitingRoom().leave(players.get(1));
+        this.tick(arena, COUNTDOWN);
+
+        assertEquals(List.of(COUNTDOWN), listener.ticks);
+    }
+
+    /**
+     * Builds an {@link Arena} with the given amount of spawn points, needing one more player than it can hold to
+     * start its countdown.
+     *
+     * @param name The arena name.
+     * @param capacity The amount of spawn points.
+     * @return The said arena.
+     */
+    private Arena arena(String name, int capacity) {
+        return this.arena(name, capacity, capacity + 1);
+    }
+
+    /**
+     * Builds an {@link Arena} with the given amount of spawn points and of players needed to start its countdown.
+     *
+     * @param name The arena name.
+     * @param capacity The amount of spawn points.
+     * @param minPlayers The amount of players needed to start the countdown.
+     * @return The said arena.
+     */
+    private Arena arena(String name, int capacity, int minPlayers) {
+        final Location spin = new Location(this.world, 0.5d, 65d, 0.5d);
+        final List<Location> spawns = new ArrayList<>();
+
+        for (int i = 0; i < capacity; ++i) {
+            spawns.add(spin.clone().add(i + 1d, 0d, 0d));
+        }
+
+        return new Arena(this.core, name, new GameSettings(spawns, spin, minPlayers,
+                GameSettings.DEFAULT_BORDER_SIZE, SpinSchedule.DEFAULT_EASING, false, SpinRender.FRAME));
+    }
+
+    /**
+     * Ticks the wheel of the provided {@link Arena} the given amount of times.
+     *
+     * @param arena The arena.
+     * @param ticks The said amount.
+     */
+    private void tick(Arena arena, int ticks) {
+        for (int i = 0; i < ticks; ++i) {
+            arena.getWheel().run();
+        }
+    }
+
+    /**
+     * Listener recording the wheel tick at which each game starts, and its players.
+     */
+    public static final class StartListener implements Listener {
+
+        private final List<Integer> ticks = new ArrayList<>();
+        private final List<UUID> players = new ArrayList<>();
+
+        /**
+         * Records the started game.
+         *
+         * @param event The event.
+         */
+        @EventHandler
+        public void onGameStart(GameStartEvent event) {
+            this.ticks.add(event.getArena().getWheel().getTick());
+            this.players.addAll(event.getGameData().players());
+        }
+
+    }
+
+}
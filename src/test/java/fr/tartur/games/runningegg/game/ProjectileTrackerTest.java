@@ -0,0 +1,297 @@
+package fr.tartur.games.runningegg.game;
+
+import fr.tartur.games.runningegg.profiler.HandlerProfiler;
+import fr.tartur.games.runningegg.scheduler.TickWheel;
+import org.bukkit.Location;
+import org.bukkit.WorldBorder;
+import org.bukkit.entity.Projectile;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the border crossings predicted by the {@link ProjectileTracker}. The projectiles are stubs whose position
+ * follows the same ballistics as the server, driven by the ticks of the {@link TickWheel}.
+ */
+class ProjectileTrackerTest {
+
+    private static final double DRAG = 0.99d;
+    private static final double BORDER_SIZE = 20d;
+
+    private TickWheel wheel;
+    private ProjectileTracker tracker;
+    private WorldBorder border;
+    private List<Integer> crossings;
+
+    /**
+     * Mocks a server, which the wheel logger needs, and creates a tracker along with a border of {@value #BORDER_SIZE}
+     * blocks centered on the origin.
+     */
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        this.wheel = new TickWheel(MockBukkit.createMockPlugin(), null, new HandlerProfiler(), "test");
+        this.tracker = new ProjectileTracker();
+        this.border = border();
+        this.crossings = new ArrayList<>();
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * A projectile flying straight to the border crosses it on the first tick its real position is past the border.
+     */
+    @Test
+    void crossesOnThePredictedTick() {
+        final Flight flight = new Flight(new Vector(1d, 0d, 0d));
+
+        this.track(flight);
+        this.tick(30);
+
+        assertEquals(List.of(firstTickPast(1d, BORDER_SIZE / 2d)), this.crossings);
+        assertEquals(0, this.tracker.size());
+    }
+
+    /**
+     * A diagonal projectile crosses the border on the axis it reaches first.
+     */
+    @Test
+    void crossesOnTheNearestAxis() {
+        final Flight flight = new Flight(new Vector(0.3d, 0d, -0.8d));
+
+        this.track(flight);
+        this.tick(60);
+
+        assertEquals(List.of(firstTickPast(0.8d, BORDER_SIZE / 2d)), this.crossings);
+    }
+
+    /**
+     * A projectile too slow to ever reach the border is not tracked at all.
+     */
+    @Test
+    void ignoresProjectilesStoppingBeforeTheBorder() {
+        this.track(new Flight(new Vector(0.05d, 0d, 0.05d)));
+        this.tick(1_000);
+
+        assertEquals(0, this.tracker.size());
+        assertTrue(this.crossings.isEmpty());
+    }
+
+    /**
+     * A projectile thrown from outside the border crosses it right away.
+     */
+    @Test
+    void crossesRightAwayWhenAlreadyOutside() {
+        final Flight flight = new Flight(new Vector(1d, 0d, 0d));
+
+        flight.start = new Location(null, 15d, 64d, 0d);
+        this.track(flight);
+
+        assertEquals(List.of(0), this.crossings);
+        assertEquals(0, this.tracker.size());
+    }
+
+    /**
+     * A projectile deflected before its deadline is checked again from its new trajectory, and crosses the opposite
+     * side of the border later on.
+     */
+    @Test
+    void predictsAgainAfterADeflection() {
+        final Flight flight = new Flight(new Vector(1d, 0d, 0d));
+        final int first = firstTickPast(1d, BORDER_SIZE / 2d);
+
+        this.track(flight);
+        this.tick(first - 1);
+
+        flight.deflect(new Location(null, 5d, 64d, 0d), new Vector(-1d, 0d, 0d), this.wheel.getTick());
+        this.tick(first * 4);
+
+        final int second = first - 1 + firstTickPast(1d, 15d);
+
+        assertEquals(List.of(second), this.crossings);
+    }
+
+    /**
+     * An untracked projectile never crosses the border, and a removed one is forgotten on its deadline.
+     */
+    @Test
+    void forgetsUntrackedAndRemovedProjectiles() {
+        final Flight untracked = new Flight(new Vector(1d, 0d, 0d));
+        final Flight removed = new Flight(new Vector(-1d, 0d, 0d));
+
+        this.track(untracked);
+        this.track(removed);
+        this.tracker.untrack(untracked.projectile);
+        removed.valid = false;
+        this.tick(30);
+
+        assertTrue(this.crossings.isEmpty());
+        assertEquals(0, this.tracker.size());
+    }
+
+    /**
+     * Starts tracking the provided flight, recording the wheel tick at which it crosses the border.
+     *
+     * @param flight The flight.
+     */
+    private void track(Flight flight) {
+        flight.launch = this.wheel.getTick();
+        this.tracker.track(flight.projectile, this.border, this.wheel, null,
+                () -> this.crossings.add(this.wheel.getTick()));
+    }
+
+    /**
+     * Ticks the wheel the given amount of times.
+     *
+     * @param ticks The said amount.
+     */
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; ++i) {
+            this.wheel.run();
+        }
+    }
+
+    /**
+     * Computes the first tick at which a projectile starting at the given speed has travelled past the given distance.
+     *
+     * @param speed The speed, in blocks per tick.
+     * @param distance The distance, in blocks.
+     * @return The said tick.
+     */
+    private static int firstTickPast(double speed, double distance) {
+        int tick = 0;
+
+        while (travelled(speed, tick) < distance) {
+            ++tick;
+        }
+
+        return tick;
+    }
+
+    /**
+     * Computes the distance travelled by a projectile starting at the given speed after the given amount of ticks.
+     *
+     * @param speed The speed, in blocks per tick.
+     * @param ticks The amount of ticks.
+     * @return The said distance.
+     */
+    private static double travelled(double speed, int ticks) {
+        return speed * (1d - Math.pow(DRAG, ticks)) / (1d - DRAG);
+    }
+
+    /**
+     * Builds a {@link WorldBorder} stub of {@value #BORDER_SIZE} blocks centered on the origin.
+     *
+     * @return The said stub.
+     */
+    private static WorldBorder border() {
+        final Location center = new Location(null, 0d, 64d, 0d);
+
+        return (WorldBorder) Proxy.newProxyInstance(WorldBorder.class.getClassLoader(),
+                new Class<?>[]{WorldBorder.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getCenter" -> center.clone();
+                    case "getSize" -> BORDER_SIZE;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "WorldBorder";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Stub of a thrown {@link Projectile}, whose position follows the server ballistics from its last launch or
+     * deflection.
+     */
+    private final class Flight {
+
+        private final Projectile projectile;
+        private final UUID id;
+        private Location start;
+        private Vector velocity;
+        private int launch;
+        private boolean valid;
+
+        /**
+         * Class constructor, which throws the projectile from the origin at the given velocity.
+         *
+         * @param velocity The said velocity.
+         */
+        private Flight(Vector velocity) {
+            this.id = UUID.randomUUID();
+            this.start = new Location(null, 0d, 64d, 0d);
+            this.velocity = velocity;
+            this.launch = 0;
+            this.valid = true;
+            this.projectile = (Projectile) Proxy.newProxyInstance(Projectile.class.getClassLoader(),
+                    new Class<?>[]{Projectile.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "getLocation" -> this.location();
+                        case "getVelocity" -> this.currentVelocity();
+                        case "getUniqueId" -> this.id;
+                        case "isValid" -> this.valid;
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "Projectile " + this.id;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        /**
+         * Changes the trajectory of the projectile, as if it bounced on something.
+         *
+         * @param location The location it bounced at.
+         * @param velocity Its new velocity.
+         * @param tick The wheel tick at which it bounced.
+         */
+        private void deflect(Location location, Vector velocity, int tick) {
+            this.start = location;
+            this.velocity = velocity;
+            this.launch = tick;
+        }
+
+        /**
+         * Computes the current position of the projectile.
+         *
+         * @return The said position.
+         */
+        private Location location() {
+            final double factor = travelled(1d, this.elapsed());
+            return this.start.clone().add(this.velocity.getX() * factor, 0d, this.velocity.getZ() * factor);
+        }
+
+        /**
+         * Computes the current velocity of the projectile.
+         *
+         * @return The said velocity.
+         */
+        private Vector currentVelocity() {
+            return this.velocity.clone().multiply(Math.pow(DRAG, this.elapsed()));
+        }
+
+        /**
+         * Gets the amount of ticks elapsed since the last launch or deflection.
+         *
+         * @return The said amount.
+         */
+        private int elapsed() {
+            return ProjectileTrackerTest.this.wheel.getTick() - this.launch;
+        }
+
+    }
+
+}
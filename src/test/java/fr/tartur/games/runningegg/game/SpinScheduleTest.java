@@ -0,0 +1,76 @@
+package fr.tartur.games.runningegg.game;
+
+import org.bukkit.Rotation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link SpinSchedule} computation.
+ */
+class SpinScheduleTest {
+
+    private static final int[] EASING = {2, 2, 2, 4, 8};
+
+    /**
+     * Every schedule turns the arrow once per easing delay but the last one, and then stops on its target. The target
+     * is the index of the hunter's spawn point, so that the arrow stops on the {@link Rotation} of the same index.
+     */
+    @Test
+    void stopsOnEveryTarget() {
+        for (int target = 0; target < SpinSchedule.POSITIONS; ++target) {
+            final SpinSchedule schedule = SpinSchedule.compute(EASING, target, true);
+            final int turns = EASING.length - 1;
+
+            assertEquals(turns * SpinSchedule.POSITIONS + target + 1, schedule.length());
+            assertEquals(Rotation.values()[target], schedule.getRotation(schedule.length() - 1));
+            assertEquals(80 + 8 * target, schedule.getDuration());
+        }
+    }
+
+    /**
+     * The arrow moves by one position on each step, and each step happens after the delay of its turn.
+     */
+    @Test
+    void stepsOnePositionAtATime() {
+        final SpinSchedule schedule = SpinSchedule.compute(EASING, 5, true);
+
+        for (int step = 1; step < schedule.length(); ++step) {
+            final int turn = Math.min((step - 1) / SpinSchedule.POSITIONS, EASING.length - 1);
+
+            assertEquals(EASING[turn], schedule.getTick(step) - schedule.getTick(step - 1));
+            assertEquals(Rotation.values()[step % SpinSchedule.POSITIONS], schedule.getRotation(step));
+        }
+    }
+
+    /**
+     * The sound flag is packed along with each step.
+     */
+    @Test
+    void packsTheSoundFlag() {
+        final SpinSchedule loud = SpinSchedule.compute(EASING, 3, true);
+        final SpinSchedule silent = SpinSchedule.compute(EASING, 3, false);
+
+        for (int step = 0; step < loud.length(); ++step) {
+            assertTrue(loud.playsSound(step));
+            assertFalse(silent.playsSound(step));
+            assertEquals(loud.getTick(step), silent.getTick(step));
+            assertEquals(loud.getRotation(step), silent.getRotation(step));
+        }
+    }
+
+    /**
+     * A single easing delay makes the arrow go straight to its target.
+     */
+    @Test
+    void supportsASingleDelay() {
+        final SpinSchedule schedule = SpinSchedule.compute(new int[]{3}, 2, false);
+
+        assertEquals(3, schedule.length());
+        assertEquals(6, schedule.getDuration());
+        assertEquals(Rotation.values()[2], schedule.getRotation(2));
+    }
+
+}
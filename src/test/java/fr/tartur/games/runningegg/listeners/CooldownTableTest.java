@@ -0,0 +1,140 @@
+package fr.tartur.games.runningegg.listeners;
+
+import fr.tartur.games.runningegg.api.events.BlockHitByEggEvent;
+import fr.tartur.games.runningegg.api.events.PlayerHitByEggEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link CooldownTable}.
+ */
+class CooldownTableTest {
+
+    private static final int DURATION = 10;
+
+    private CooldownTable table;
+
+    /**
+     * Creates a table handling the two egg hit events.
+     */
+    @BeforeEach
+    void setUp() {
+        this.table = new CooldownTable(DURATION, List.of(PlayerHitByEggEvent.class, BlockHitByEggEvent.class));
+    }
+
+    /**
+     * An entity is let through once, then held back until its cooldown has expired.
+     */
+    @Test
+    void holdsEntitiesBackUntilExpiry() {
+        final UUID id = UUID.randomUUID();
+
+        assertTrue(this.table.tryAcquire(id, PlayerHitByEggEvent.class, 100));
+        assertFalse(this.table.tryAcquire(id, PlayerHitByEggEvent.class, 100));
+        assertFalse(this.table.tryAcquire(id, PlayerHitByEggEvent.class, 100 + DURATION - 1));
+        assertTrue(this.table.tryAcquire(id, PlayerHitByEggEvent.class, 100 + DURATION));
+    }
+
+    /**
+     * The cooldowns of different entities and of different event types never interfere with each other.
+     */
+    @Test
+    void keepsEntitiesAndTypesApart() {
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+
+        assertTrue(this.table.tryAcquire(first, PlayerHitByEggEvent.class, 0));
+        assertTrue(this.table.tryAcquire(first, BlockHitByEggEvent.class, 0));
+        assertTrue(this.table.tryAcquire(second, PlayerHitByEggEvent.class, 0));
+        assertFalse(this.table.tryAcquire(first, BlockHitByEggEvent.class, 1));
+    }
+
+    /**
+     * A removed entity is let through right away, and is not stored anymore.
+     */
+    @Test
+    void forgetsRemovedEntities() {
+        final UUID id = UUID.randomUUID();
+
+        this.table.tryAcquire(id, PlayerHitByEggEvent.class, 0);
+        this.table.remove(id);
+
+        assertEquals(0, this.table.size());
+        assertTrue(this.table.tryAcquire(id, PlayerHitByEggEvent.class, 1));
+    }
+
+    /**
+     * An event type which was not provided on construction is refused.
+     */
+    @Test
+    void refusesUnknownTypes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> this.table.tryAcquire(UUID.randomUUID(), PlayerQuitEvent.class, 0));
+    }
+
+    /**
+     * Expired entities are swept once the table has grown enough, so that it stays bounded.
+     */
+    @Test
+    void sweepsExpiredEntities() {
+        for (int i = 0; i < 1_000; ++i) {
+            this.table.tryAcquire(UUID.randomUUID(), PlayerHitByEggEvent.class, i * DURATION);
+        }
+
+        assertTrue(this.table.size() < 200);
+    }
+
+    /**
+     * The same entity acquiring the same cooldown from several threads at once is only let through once.
+     *
+     * @throws Exception If a thread fails or is interrupted.
+     */
+    @Test
+    void letsConcurrentAcquiresThroughOnce() throws Exception {
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            for (int round = 0; round < 100; ++round) {
+                final UUID id = UUID.randomUUID();
+                final CountDownLatch start = new CountDownLatch(1);
+                final List<Future<Boolean>> results = new ArrayList<>();
+
+                for (int i = 0; i < threads; ++i) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return this.table.tryAcquire(id, PlayerHitByEggEvent.class, 0);
+                    }));
+                }
+
+                start.countDown();
+                int acquired = 0;
+
+                for (final Future<Boolean> result : results) {
+                    if (result.get()) {
+                        ++acquired;
+                    }
+                }
+
+                assertEquals(1, acquired);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
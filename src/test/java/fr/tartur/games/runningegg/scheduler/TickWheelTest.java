@@ -0,0 +1,201 @@
+package fr.tartur.games.runningegg.scheduler;
+
+import fr.tartur.games.runningegg.profiler.HandlerProfiler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link TickWheel}, ticked by hand instead of by the server scheduler.
+ */
+class TickWheelTest {
+
+    private TickWheel wheel;
+
+    /**
+     * Mocks a server, which the {@link HandlerProfiler} and the wheel logger need, and creates an idle wheel.
+     */
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        this.wheel = new TickWheel(MockBukkit.createMockPlugin(), null, new HandlerProfiler(), "test");
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * A task runs on the exact tick of its deadline, whichever level of the wheel it was placed in.
+     */
+    @Test
+    void runsTasksOnTheirDeadlineAcrossLevels() {
+        final int[] delays = {1, 5, 255, 256, 300, 16_384, 16_385, 1_048_576 + 7};
+        final List<Integer> ran = new ArrayList<>();
+
+        for (final int delay : delays) {
+            this.wheel.schedule(delay, () -> ran.add(this.wheel.getTick()));
+        }
+
+        this.tick(delays[delays.length - 1]);
+
+        assertEquals(List.of(1, 5, 255, 256, 300, 16_384, 16_385, 1_048_576 + 7), ran);
+        assertEquals(0, this.wheel.getPending());
+    }
+
+    /**
+     * A repeating task runs on its first deadline and then once per period, until it is cancelled.
+     */
+    @Test
+    void repeatsTasksUntilCancelled() {
+        final List<Integer> ran = new ArrayList<>();
+        final Timeout timeout = this.wheel.repeat(2, 3, () -> ran.add(this.wheel.getTick()), null);
+
+        this.tick(11);
+        timeout.cancel();
+        this.tick(10);
+
+        assertEquals(List.of(2, 5, 8, 11), ran);
+        assertEquals(0, this.wheel.getPending());
+    }
+
+    /**
+     * A repeating task whose period is longer than the first level still cascades down on time.
+     */
+    @Test
+    void repeatsTasksWithLongPeriods() {
+        final List<Integer> ran = new ArrayList<>();
+
+        this.wheel.repeat(1, 1_000, () -> ran.add(this.wheel.getTick()), null);
+        this.tick(3_001);
+
+        assertEquals(List.of(1, 1_001, 2_001, 3_001), ran);
+        assertEquals(1, this.wheel.getPending());
+    }
+
+    /**
+     * A cancelled task never runs, and is swept from the pending timeouts once its slot is reached.
+     */
+    @Test
+    void neverRunsCancelledTasks() {
+        final boolean[] ran = {false};
+        final Timeout timeout = this.wheel.schedule(3, () -> ran[0] = true);
+
+        this.tick(1);
+        timeout.cancel();
+        this.tick(5);
+
+        assertFalse(ran[0]);
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, this.wheel.getPending());
+    }
+
+    /**
+     * A task throwing an exception neither prevents the other due tasks from running nor stops a repeating task.
+     */
+    @Test
+    void keepsRunningAfterAnException() {
+        final List<Integer> ran = new ArrayList<>();
+
+        this.wheel.repeat(1, 2, () -> {
+            throw new IllegalStateException("expected");
+        }, null);
+        this.wheel.schedule(3, () -> ran.add(this.wheel.getTick()));
+        this.wheel.repeat(1, 2, () -> ran.add(-this.wheel.getTick()), null);
+        this.tick(5);
+
+        assertEquals(List.of(-1, 3, -3, -5), ran);
+        assertEquals(2, this.wheel.getPending());
+    }
+
+    /**
+     * A task scheduled by another task is placed right away, relatively to the tick being run.
+     */
+    @Test
+    void schedulesFromRunningTasks() {
+        final List<Integer> ran = new ArrayList<>();
+
+        this.wheel.schedule(2, () -> this.wheel.schedule(3, () -> ran.add(this.wheel.getTick())));
+        this.tick(5);
+
+        assertEquals(List.of(5), ran);
+    }
+
+    /**
+     * A task scheduled from another thread is handed over on the next tick, with the same deadline as if it was
+     * scheduled from the thread ticking the wheel.
+     *
+     * @throws InterruptedException If the scheduling thread is interrupted.
+     */
+    @Test
+    void schedulesFromOtherThreads() throws InterruptedException {
+        final List<Integer> ran = new ArrayList<>();
+
+        this.wheel.schedule(1, () -> {});
+        this.tick(1);
+
+        final Thread thread = new Thread(() -> this.wheel.schedule(4, () -> ran.add(this.wheel.getTick())));
+        thread.start();
+        thread.join();
+
+        assertEquals(0, this.wheel.getPending());
+
+        this.tick(4);
+
+        assertEquals(List.of(5), ran);
+    }
+
+    /**
+     * An idle wheel does not advance, so that the deadlines of the next tasks are still relative to its last tick.
+     */
+    @Test
+    void doesNotAdvanceWhileIdle() {
+        this.tick(10);
+
+        assertEquals(0, this.wheel.getTick());
+
+        final List<Integer> ran = new ArrayList<>();
+
+        this.wheel.schedule(2, () -> ran.add(this.wheel.getTick()));
+        this.tick(2);
+
+        assertEquals(List.of(2), ran);
+    }
+
+    /**
+     * A measured task is accounted in its {@link TaskMeter}.
+     */
+    @Test
+    void accountsMeasuredTasks() {
+        final TaskMeter meter = new TaskMeter();
+
+        this.wheel.repeat(1, 1, () -> {}, meter);
+        this.tick(4);
+
+        assertEquals(4, meter.getRuns());
+    }
+
+    /**
+     * Ticks the wheel the given amount of times.
+     *
+     * @param ticks The said amount.
+     */
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; ++i) {
+            this.wheel.run();
+        }
+    }
+
+}